@@ -0,0 +1,74 @@
+package com.vincentrungogh.benchmark;
+
+import com.vincentrungogh.domain.calendar.service.CalendarService;
+import com.vincentrungogh.domain.drawing.entity.DailyActivityRow;
+import com.vincentrungogh.domain.drawing.repository.DrawingDailyActivityRepository;
+import com.vincentrungogh.domain.drawing.repository.DrawingDetailRepository;
+import com.vincentrungogh.domain.drawing.repository.DrawingRepository;
+import com.vincentrungogh.domain.myhealth.repository.MyHealthRepository;
+import com.vincentrungogh.domain.myhealth.service.MyHealthService;
+import com.vincentrungogh.domain.user.entity.User;
+import com.vincentrungogh.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 캘린더, 마이헬스 집계 루프 (저장소는 미리 만든 일별 누적 행을 돌려주는 mock)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ActivityAggregationBenchmark {
+
+    private static final int YEAR = 2024;
+    private static final int MONTH = 10;
+
+    // 하루에 진행한 드로잉 수
+    @Param({"1", "3"})
+    private int rowsPerDay;
+
+    private CalendarService calendarService;
+    private MyHealthService myHealthService;
+
+    @Setup
+    public void setUp() {
+        List<DailyActivityRow> yearRows = BenchmarkData.dailyActivities(YEAR, rowsPerDay);
+        List<DailyActivityRow> monthRows = yearRows.stream()
+                .filter(row -> row.getActivityDate().getMonthValue() == MONTH)
+                .toList();
+
+        User user = User.createUser("bench@vincentrungogh.com", "password", "bench", 0,
+                LocalDate.of(1995, 1, 1), 170, 65);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(anyInt())).thenReturn(Optional.of(user));
+
+        DrawingDailyActivityRepository calendarActivities = mock(DrawingDailyActivityRepository.class);
+        when(calendarActivities.findDailyActivities(anyInt(), any(), any())).thenReturn(monthRows);
+        DrawingDailyActivityRepository yearActivities = mock(DrawingDailyActivityRepository.class);
+        when(yearActivities.findDailyActivities(anyInt(), any(), any())).thenReturn(yearRows);
+
+        calendarService = new CalendarService(userRepository, mock(DrawingRepository.class),
+                mock(DrawingDetailRepository.class), calendarActivities);
+        myHealthService = new MyHealthService(mock(MyHealthRepository.class), userRepository,
+                mock(DrawingRepository.class), yearActivities);
+    }
+
+    @Benchmark
+    public Object getCalendar() {
+        return calendarService.getCalendar(1, YEAR, MONTH);
+    }
+
+    @Benchmark
+    public Object getMyHealthDrawings() {
+        return myHealthService.getDrawings(1, YEAR);
+    }
+}
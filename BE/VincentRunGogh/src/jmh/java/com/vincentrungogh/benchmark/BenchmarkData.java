@@ -0,0 +1,96 @@
+package com.vincentrungogh.benchmark;
+
+import com.vincentrungogh.domain.board.entity.BoardFeedRow;
+import com.vincentrungogh.domain.drawing.entity.DailyActivityRow;
+import com.vincentrungogh.domain.route.entity.RouteSummary;
+import com.vincentrungogh.domain.route.service.dto.common.Position;
+import com.vincentrungogh.domain.running.service.dto.request.RunningRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 데이터 (서울 근처 좌표, 고정 seed)
+final class BenchmarkData {
+
+    static final double USER_LAT = 37.5013;
+    static final double USER_LNG = 127.0396;
+
+    private BenchmarkData() {
+    }
+
+    static double randomLat(Random random) {
+        return USER_LAT + (random.nextDouble() - 0.5) * 0.2;
+    }
+
+    static double randomLng(Random random) {
+        return USER_LNG + (random.nextDouble() - 0.5) * 0.2;
+    }
+
+    static List<RouteSummary> routes(int count) {
+        Random random = new Random(42);
+        List<RouteSummary> routes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            routes.add(new RouteSummary("route-" + i, "루트 " + i,
+                    "https://bucket.s3.ap-northeast-2.amazonaws.com/route/" + i + ".jpg", null,
+                    1000 + random.nextInt(9000), randomLat(random), randomLng(random)));
+        }
+        return routes;
+    }
+
+    static List<BoardFeedRow> boards(int count) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.of(2024, 10, 1, 12, 0);
+        List<BoardFeedRow> boards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boards.add(new BoardFeedRow(i, "코멘트 " + i, random.nextInt(100), now.minusMinutes(i),
+                    "게시글 " + i,
+                    "https://bucket.s3.ap-northeast-2.amazonaws.com/route/" + i + ".jpg",
+                    "https://bucket.s3.ap-northeast-2.amazonaws.com/drawing/" + i + ".jpg",
+                    1000 + random.nextInt(9000), randomLat(random), randomLng(random),
+                    "닉네임" + i, "profile/" + i + ".jpg"));
+        }
+        return boards;
+    }
+
+    // 1초 간격 러닝 좌표
+    static List<RunningRequest> runningRequests(int count) {
+        Random random = new Random(42);
+        LocalTime start = LocalTime.of(7, 0);
+        List<RunningRequest> requests = new ArrayList<>(count);
+        double lat = USER_LAT;
+        double lng = USER_LNG;
+        for (int i = 0; i < count; i++) {
+            lat += (random.nextDouble() - 0.5) * 0.0001;
+            lng += (random.nextDouble() - 0.5) * 0.0001;
+            requests.add(RunningRequest.createRunningRequest(lat, lng, start.plusSeconds(i).toString()));
+        }
+        return requests;
+    }
+
+    static List<Position> positions(int count) {
+        List<Position> positions = new ArrayList<>(count);
+        for (RunningRequest request : runningRequests(count)) {
+            positions.add(new Position(request.getLat(), request.getLng()));
+        }
+        return positions;
+    }
+
+    // 하루 드로잉 rowsPerDay개씩 한 해 동안의 일별 누적
+    static List<DailyActivityRow> dailyActivities(int year, int rowsPerDay) {
+        Random random = new Random(42);
+        List<DailyActivityRow> rows = new ArrayList<>();
+        for (LocalDate date = LocalDate.of(year, 1, 1); date.getYear() == year; date = date.plusDays(1)) {
+            for (int i = 0; i < rowsPerDay; i++) {
+                int detailCount = 1 + random.nextInt(3);
+                rows.add(new DailyActivityRow(date.getDayOfYear() * 10 + i, "드로잉 " + i, date,
+                        600 + random.nextInt(3000), 1000 + random.nextInt(5000), 1500 + random.nextInt(6000),
+                        detailCount * (5 + random.nextDouble() * 5), detailCount, random.nextBoolean()));
+            }
+        }
+        return rows;
+    }
+}
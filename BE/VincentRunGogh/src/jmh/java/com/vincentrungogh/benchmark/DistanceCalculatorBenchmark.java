@@ -0,0 +1,41 @@
+package com.vincentrungogh.benchmark;
+
+import com.vincentrungogh.global.util.DistanceCalculator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 루트/게시글 조회마다 호출되는 거리 계산
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DistanceCalculatorBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final double[] lats = new double[SIZE];
+    private final double[] lngs = new double[SIZE];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            lats[i] = BenchmarkData.randomLat(random);
+            lngs[i] = BenchmarkData.randomLng(random);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void calculateDistance(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(DistanceCalculator.calculateDistance(lats[i], lngs[i],
+                    BenchmarkData.USER_LAT, BenchmarkData.USER_LNG));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.vincentrungogh.benchmark;
+
+import com.vincentrungogh.domain.board.entity.BoardFeedRow;
+import com.vincentrungogh.domain.board.service.dto.common.FindBoard;
+import com.vincentrungogh.domain.route.entity.RouteSummary;
+import com.vincentrungogh.domain.route.service.dto.common.FindRoute;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 루트/게시글 목록 응답 변환 (목록 크기별)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FindResponseBenchmark {
+
+    @Param({"20", "200", "2000"})
+    private int count;
+
+    private List<RouteSummary> routes;
+    private List<BoardFeedRow> boards;
+
+    @Setup
+    public void setUp() {
+        routes = BenchmarkData.routes(count);
+        boards = BenchmarkData.boards(count);
+    }
+
+    @Benchmark
+    public void createFindRoute(Blackhole blackhole) {
+        for (RouteSummary route : routes) {
+            blackhole.consume(FindRoute.createFindRoute(route, BenchmarkData.USER_LAT, BenchmarkData.USER_LNG, 8.0));
+        }
+    }
+
+    @Benchmark
+    public void createFindBoard(Blackhole blackhole) {
+        for (BoardFeedRow board : boards) {
+            blackhole.consume(FindBoard.createFindBoard(board, BenchmarkData.USER_LAT, BenchmarkData.USER_LNG, false, 1800));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.vincentrungogh.benchmark;
+
+import com.vincentrungogh.domain.route.service.dto.common.Position;
+import com.vincentrungogh.domain.running.service.dto.request.RunningRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// RedisConfig의 값 직렬화(GenericJackson2JsonRedisSerializer)로 러닝 좌표, 루트 좌표 목록 저장/조회
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RedisSerializationBenchmark {
+
+    // 1초 간격 좌표 기준 약 1분, 30분, 2시간
+    @Param({"60", "1800", "7200"})
+    private int count;
+
+    private GenericJackson2JsonRedisSerializer serializer;
+    private List<RunningRequest> runningRequests;
+    private List<Position> positions;
+    private byte[] serializedRunningRequests;
+    private byte[] serializedPositions;
+
+    @Setup
+    public void setUp() {
+        serializer = new GenericJackson2JsonRedisSerializer();
+        runningRequests = BenchmarkData.runningRequests(count);
+        positions = BenchmarkData.positions(count);
+        serializedRunningRequests = serializer.serialize(runningRequests);
+        serializedPositions = serializer.serialize(positions);
+    }
+
+    @Benchmark
+    public byte[] serializeRunningRequests() {
+        return serializer.serialize(runningRequests);
+    }
+
+    @Benchmark
+    public Object deserializeRunningRequests() {
+        return serializer.deserialize(serializedRunningRequests);
+    }
+
+    @Benchmark
+    public byte[] serializePositions() {
+        return serializer.serialize(positions);
+    }
+
+    @Benchmark
+    public Object deserializePositions() {
+        return serializer.deserialize(serializedPositions);
+    }
+}
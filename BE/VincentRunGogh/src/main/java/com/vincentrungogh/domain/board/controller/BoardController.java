@@ -1,6 +1,7 @@
 package com.vincentrungogh.domain.board.controller;
 
 import com.vincentrungogh.domain.board.service.BoardService;
+import com.vincentrungogh.domain.board.service.dto.common.BoardSearchCondition;
 import com.vincentrungogh.domain.board.service.dto.request.SaveBoardRequestDto;
 import com.vincentrungogh.domain.board.service.facade.BoardFacade;
 import com.vincentrungogh.domain.board.service.dto.response.FindBoardResponseDto;
@@ -43,11 +44,15 @@ public class BoardController {
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam String type,
             @RequestParam Double lat,
-            @RequestParam Double lng) {
+            @RequestParam Double lng,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "20") int size) {
         log.info("getBoard 메소드가 호출되었습니다.");
         log.info("로그 인포 게시글 타입: " +type+" "+lat+" "+lng);
 
-        FindBoardResponseDto responseDto = boardFacade.getBoard(userPrincipal, type, lat, lng);
+        BoardSearchCondition condition = BoardSearchCondition.createBoardSearchCondition(lat, lng,
+                pageToken, Math.min(Math.max(size, 1), 100));
+        FindBoardResponseDto responseDto = boardFacade.getBoard(userPrincipal, type, condition);
 
         log.info("responseDto: " +responseDto);
         return ResponseEntity.status(HttpStatus.OK).body(ResultDto.res(HttpStatus.OK.value(), "게시글이 전체 조회되었습니다.", responseDto));
@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "boards")
+@Table(name = "boards", indexes = {
+        // 피드 조회 (is_delete = false, created desc, id desc)
+        @Index(name = "idx_boards_feed", columnList = "is_delete, created, id")
+})
 public class Board {
 
     @Id
@@ -0,0 +1,37 @@
+package com.vincentrungogh.domain.board.entity;
+
+// 게시글 목록 조회에서 QueryDSL 프로젝션으로 받기 위한 클래스 (게시글 + 루트 + 작성자)
+
+import com.vincentrungogh.domain.route.entity.Route;
+import com.vincentrungogh.domain.user.entity.User;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class BoardFeedRow {
+    private int boardId;
+    private String comment;
+    private int likeCount;
+    private LocalDateTime created;
+    private String title;
+    private String artImage;
+    private String accumulatedDrawingImage;
+    private int distance;
+    private Double centerLat;
+    private Double centerLng;
+    private String nickname;
+    private String profile;
+
+    // 엔티티로 조회한 게시글 (좋아요한 게시글 목록 등)
+    public static BoardFeedRow createBoardFeedRow(Board board) {
+        Route route = board.getRoute();
+        User writer = route.getUser();
+        return new BoardFeedRow(board.getId(), board.getComment(), board.getLikeCount(), board.getCreated(),
+                route.getTitle(), route.getArtImage(), route.getAccumulatedDrawingImage(), route.getDistance(),
+                route.getCenterLat(), route.getCenterLng(), writer.getNickname(), writer.getProfile());
+    }
+}
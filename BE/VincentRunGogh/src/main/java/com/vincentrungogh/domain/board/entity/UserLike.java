@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "users_like")
+@Table(name = "users_like", indexes = {
+        // 유저별 좋아요 여부 조회
+        @Index(name = "idx_users_like_user_board", columnList = "user_id, board_id")
+})
 public class UserLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
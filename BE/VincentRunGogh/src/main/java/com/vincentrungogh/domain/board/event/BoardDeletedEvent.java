@@ -0,0 +1,16 @@
+package com.vincentrungogh.domain.board.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글이 삭제되었을 때 발행하는 이벤트
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardDeletedEvent {
+    private final int boardId;
+
+    public static BoardDeletedEvent createBoardDeletedEvent(int boardId) {
+        return new BoardDeletedEvent(boardId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.vincentrungogh.domain.board.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 좋아요/좋아요 취소 시 발행하는 이벤트
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardLikeChangedEvent {
+    private final int userId;
+    private final int boardId;
+
+    public static BoardLikeChangedEvent createBoardLikeChangedEvent(int userId, int boardId) {
+        return new BoardLikeChangedEvent(userId, boardId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.vincentrungogh.domain.board.repository;
+
+import com.vincentrungogh.domain.board.entity.BoardFeedRow;
+import com.vincentrungogh.domain.board.service.dto.common.BoardCursor;
+import com.vincentrungogh.domain.user.entity.User;
+
+import java.util.List;
+
+public interface BoardRepositoryCustom {
+    List<BoardFeedRow> findFeedPage(BoardCursor cursor, int limit);
+
+    List<BoardFeedRow> findFeedByWriter(User writer);
+}
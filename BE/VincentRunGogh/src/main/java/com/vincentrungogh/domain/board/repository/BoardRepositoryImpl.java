@@ -0,0 +1,78 @@
+package com.vincentrungogh.domain.board.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.vincentrungogh.domain.board.entity.BoardFeedRow;
+import com.vincentrungogh.domain.board.service.dto.common.BoardCursor;
+import com.vincentrungogh.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.vincentrungogh.domain.board.entity.QBoard.board;
+import static com.vincentrungogh.domain.route.entity.QRoute.route;
+import static com.vincentrungogh.domain.user.entity.QUser.user;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BoardRepositoryImpl implements BoardRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<BoardFeedRow> findFeedPage(BoardCursor cursor, int limit) {
+        // 삭제되지 않은 게시글을 최신순(created desc, id desc)으로 커서 이후부터 limit개
+        return selectFeedRow()
+                .where(board.isDelete.eq(false),
+                        afterCursor(cursor))
+                .orderBy(board.created.desc(), board.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<BoardFeedRow> findFeedByWriter(User writer) {
+        // 내가 쓴 삭제되지 않은 게시글 최신순
+        return selectFeedRow()
+                .where(board.isDelete.eq(false),
+                        route.user.eq(writer))
+                .orderBy(board.created.desc(), board.id.desc())
+                .fetch();
+    }
+
+    // 게시글 목록에 필요한 컬럼만 조인 한 번으로 조회 (엔티티 조회 x)
+    private JPAQuery<BoardFeedRow> selectFeedRow() {
+        return queryFactory
+                .select(Projections.constructor(BoardFeedRow.class,
+                        board.id,
+                        board.comment,
+                        board.likeCount,
+                        board.created,
+                        route.title,
+                        route.artImage,
+                        route.accumulatedDrawingImage,
+                        route.distance,
+                        route.centerLat,
+                        route.centerLng,
+                        user.nickname,
+                        user.profile
+                ))
+                .from(board)
+                .join(board.route, route)
+                .join(route.user, user);
+    }
+
+    private BooleanExpression afterCursor(BoardCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return board.created.lt(cursor.getCreated())
+                .or(board.created.eq(cursor.getCreated())
+                        .and(board.id.lt(cursor.getId())));
+    }
+}
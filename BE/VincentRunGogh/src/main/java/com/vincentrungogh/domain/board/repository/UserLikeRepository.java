@@ -8,7 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserLikeRepository extends JpaRepository<UserLike, Integer> {
+public interface UserLikeRepository extends JpaRepository<UserLike, Integer>, UserLikeRepositoryCustom {
     
     List<UserLike> findAllByUser(User user);
 
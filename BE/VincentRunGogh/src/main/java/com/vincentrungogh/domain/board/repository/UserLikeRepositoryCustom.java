@@ -0,0 +1,12 @@
+package com.vincentrungogh.domain.board.repository;
+
+import com.vincentrungogh.domain.user.entity.User;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserLikeRepositoryCustom {
+    List<Integer> findLikedBoardIds(User user, Collection<Integer> boardIds);
+
+    List<String> findLikedRouteIds(int userId);
+}
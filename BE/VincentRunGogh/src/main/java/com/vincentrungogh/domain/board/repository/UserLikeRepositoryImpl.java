@@ -0,0 +1,45 @@
+package com.vincentrungogh.domain.board.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.vincentrungogh.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.vincentrungogh.domain.board.entity.QBoard.board;
+import static com.vincentrungogh.domain.board.entity.QUserLike.userLike;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UserLikeRepositoryImpl implements UserLikeRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Integer> findLikedBoardIds(User user, Collection<Integer> boardIds) {
+        // 게시글 목록 중 유저가 좋아요한 게시글 아이디만 한 번에 조회
+        return queryFactory
+                .select(userLike.board.id)
+                .from(userLike)
+                .where(userLike.user.eq(user)
+                        .and(userLike.board.id.in(boardIds)))
+                .fetch();
+    }
+
+    @Override
+    public List<String> findLikedRouteIds(int userId) {
+        // 유저가 좋아요한 (삭제되지 않은) 게시글의 루트 아이디
+        return queryFactory
+                .select(board.route.id)
+                .from(userLike)
+                .join(userLike.board, board)
+                .where(userLike.user.id.eq(userId)
+                        .and(board.isDelete.eq(false)))
+                .orderBy(userLike.id.asc())
+                .fetch();
+    }
+}
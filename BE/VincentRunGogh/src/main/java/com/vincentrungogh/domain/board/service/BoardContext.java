@@ -1,6 +1,7 @@
 package com.vincentrungogh.domain.board.service;
 
 import com.vincentrungogh.domain.board.entity.BoardType;
+import com.vincentrungogh.domain.board.service.dto.common.BoardSearchCondition;
 import com.vincentrungogh.domain.board.service.dto.response.FindBoardResponseDto;
 import com.vincentrungogh.domain.board.service.strategy.BoardStrategy;
 import com.vincentrungogh.domain.user.entity.User;
@@ -17,7 +18,7 @@ public class BoardContext {
 
     private final Map<String, BoardStrategy> getBoardStrategyMap;
 
-    public FindBoardResponseDto findBoard(User user, BoardType boardType, Double lat, Double lng) {
+    public FindBoardResponseDto findBoard(User user, BoardType boardType, BoardSearchCondition condition) {
 
         // 타입 조회
 //        log.info("로그의 유저이름 " +user.getEmail());
@@ -27,6 +28,6 @@ public class BoardContext {
         BoardStrategy boardStrategy = getBoardStrategyMap.get(boardType.getTypeName());
 
         // 반환
-        return boardStrategy.findBoard(user, lat, lng);
+        return boardStrategy.findBoard(user, condition);
     }
 }
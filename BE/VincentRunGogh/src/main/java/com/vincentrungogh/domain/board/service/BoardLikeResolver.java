@@ -0,0 +1,33 @@
+package com.vincentrungogh.domain.board.service;
+
+import com.vincentrungogh.domain.board.entity.BoardFeedRow;
+import com.vincentrungogh.domain.board.repository.UserLikeRepository;
+import com.vincentrungogh.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 게시글 목록의 좋아요 여부를 쿼리 한 번으로 확인
+@Component
+@RequiredArgsConstructor
+public class BoardLikeResolver {
+
+    private final UserLikeRepository userLikeRepository;
+
+    public Set<Integer> findLikedBoardIdsByRows(User user, List<BoardFeedRow> rows) {
+        return findLikedBoardIdsByIds(user, rows.stream()
+                .map(BoardFeedRow::getBoardId)
+                .toList());
+    }
+
+    public Set<Integer> findLikedBoardIdsByIds(User user, Collection<Integer> boardIds) {
+        if (boardIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(userLikeRepository.findLikedBoardIds(user, boardIds));
+    }
+}
@@ -2,6 +2,8 @@ package com.vincentrungogh.domain.board.service;
 
 import com.vincentrungogh.domain.board.entity.Board;
 import com.vincentrungogh.domain.board.entity.UserLike;
+import com.vincentrungogh.domain.board.event.BoardDeletedEvent;
+import com.vincentrungogh.domain.board.event.BoardLikeChangedEvent;
 import com.vincentrungogh.domain.board.repository.BoardRepository;
 import com.vincentrungogh.domain.board.repository.UserLikeRepository;
 import com.vincentrungogh.domain.route.entity.Route;
@@ -13,6 +15,7 @@ import com.vincentrungogh.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -23,6 +26,7 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final UserLikeRepository userLikeRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 게시글을 mysql에 저장
     // String comment, Route route
@@ -46,6 +50,8 @@ public class BoardService {
         // userLike user-board 관계 행 추가
         UserLike userLike = UserLike.createUsersLike(user, board);
         userLikeRepository.save(userLike);
+
+        eventPublisher.publishEvent(BoardLikeChangedEvent.createBoardLikeChangedEvent(user.getId(), boardId));
     }
 
     // 게시글 좋아요 취소 구현하기
@@ -64,6 +70,8 @@ public class BoardService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USERLIKE_BOARD_NOT_FOUND));
 
         userLikeRepository.delete(userLike);
+
+        eventPublisher.publishEvent(BoardLikeChangedEvent.createBoardLikeChangedEvent(user.getId(), boardId));
     }
 
     // 게시글 삭제처리 진행
@@ -78,6 +86,8 @@ public class BoardService {
         boardRepository.save(board);
         // userlike의 모든 boardId 행을 삭제함
         userLikeRepository.deleteByBoardId(boardId);
+
+        eventPublisher.publishEvent(BoardDeletedEvent.createBoardDeletedEvent(boardId));
     }
 
 }
@@ -0,0 +1,52 @@
+package com.vincentrungogh.domain.board.service.dto.common;
+
+import com.vincentrungogh.global.exception.CustomException;
+import com.vincentrungogh.global.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 피드 커서 (created desc, id desc)
+ * 마지막으로 받은 게시글의 created, id를 "created|id" 형태로 base64url 인코딩해서 pageToken으로 사용
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime created;
+    private final int id;
+
+    public static BoardCursor createBoardCursor(LocalDateTime created, int id) {
+        return new BoardCursor(created, id);
+    }
+
+    public String encode() {
+        String raw = created.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BoardCursor decode(String pageToken) {
+        if (pageToken == null || pageToken.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new BoardCursor(LocalDateTime.parse(raw.substring(0, index)),
+                    Integer.parseInt(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_PAGE_TOKEN);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.vincentrungogh.domain.board.service.dto.common;
+
+import lombok.*;
+
+// 게시글 조회 조건 (pageToken이 없으면 첫 페이지)
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardSearchCondition {
+    private double lat;
+    private double lng;
+    private BoardCursor cursor;
+    private int size;
+
+    @Builder
+    private BoardSearchCondition(double lat, double lng, BoardCursor cursor, int size) {
+        this.lat = lat;
+        this.lng = lng;
+        this.cursor = cursor;
+        this.size = size;
+    }
+
+    public static BoardSearchCondition createBoardSearchCondition(double lat, double lng, String pageToken, int size) {
+        return BoardSearchCondition.builder()
+                .lat(lat)
+                .lng(lng)
+                .cursor(BoardCursor.decode(pageToken))
+                .size(size)
+                .build();
+    }
+}
@@ -1,8 +1,8 @@
 package com.vincentrungogh.domain.board.service.dto.common;
 
-import com.vincentrungogh.domain.board.entity.Board;
-import com.vincentrungogh.domain.user.entity.User;
+import com.vincentrungogh.domain.board.entity.BoardFeedRow;
 import com.vincentrungogh.global.util.DistanceCalculator;
+import com.vincentrungogh.global.util.ImageVariants;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,6 +19,8 @@ public class FindBoard {
     private String title;
     private String drawingImage;
     private String artImage;
+    private String drawingImageThumbnail;
+    private String artImageThumbnail;
     private String comment;
     private int likeCount;
     private Boolean isLiked;
@@ -35,6 +37,8 @@ public class FindBoard {
         this.title = title;
         this.drawingImage = drawingImage;
         this.artImage = artImage;
+        this.drawingImageThumbnail = ImageVariants.thumbnailUrl(drawingImage);
+        this.artImageThumbnail = ImageVariants.thumbnailUrl(artImage);
         this.comment = comment;
         this.isLiked = isLiked;
         this.likeCount = likeCount;
@@ -44,32 +48,26 @@ public class FindBoard {
         this.distanceFromUser = distanceFromUser;
     }
 
-    public static FindBoard createFindBoard(Board board, Double lat, Double lng, boolean isLiked, int predictedTime){
-
-        // 해당 루트와 연결된 유저 정보 가져오기
-        User writer = board.getRoute().getUser();
+    public static FindBoard createFindBoard(BoardFeedRow row, Double lat, Double lng, boolean isLiked, int predictedTime){
 
         // 떨어진 거리
-        Double centerLat = board.getRoute().getCenterLat();
-        Double centerLng = board.getRoute().getCenterLng();
-
-        double distanceUser = DistanceCalculator.calculateDistance(centerLat, centerLng, lat, lng);
+        double distanceUser = DistanceCalculator.calculateDistance(row.getCenterLat(), row.getCenterLng(), lat, lng);
 
         return FindBoard.builder()
-                .boardId(board.getId())
-                .nickname(writer.getNickname())
-                .profile(writer.getProfile())
-                .title(board.getRoute().getTitle())
-                .drawingImage(board.getRoute().getAccumulatedDrawingImage())
-                .artImage(board.getRoute().getArtImage())
-                .comment(board.getComment())
+                .boardId(row.getBoardId())
+                .nickname(row.getNickname())
+                .profile(row.getProfile())
+                .title(row.getTitle())
+                .drawingImage(row.getAccumulatedDrawingImage())
+                .artImage(row.getArtImage())
+                .comment(row.getComment())
                 .isLiked(isLiked)
-                .likeCount(board.getLikeCount())
-                .distance(Math.round((double) board.getRoute().getDistance() / 1000.0 * 100.0) / 100.0)
+                .likeCount(row.getLikeCount())
+                .distance(Math.round((double) row.getDistance() / 1000.0 * 100.0) / 100.0)
                 .time(predictedTime) // 내 평균 속력에 맞게 예상 시간 작성
-                .created(board.getCreated())
+                .created(row.getCreated())
                 .distanceFromUser(distanceUser)
                 .build();
     }
 
-}
\ No newline at end of file
+}
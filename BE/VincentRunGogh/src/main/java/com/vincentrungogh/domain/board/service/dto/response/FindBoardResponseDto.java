@@ -12,15 +12,23 @@ import java.util.List;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class FindBoardResponseDto {
     private List<FindBoard> boardList;
+    // 다음 페이지 조회 시 사용하는 토큰 (마지막 페이지면 null)
+    private String nextPageToken;
 
     @Builder
-    private FindBoardResponseDto(List<FindBoard> boardList) {
+    private FindBoardResponseDto(List<FindBoard> boardList, String nextPageToken) {
         this.boardList = boardList;
+        this.nextPageToken = nextPageToken;
     }
 
     public static FindBoardResponseDto createFindBoardResponseDto(List<FindBoard> boardList) {
+        return createFindBoardResponseDto(boardList, null);
+    }
+
+    public static FindBoardResponseDto createFindBoardResponseDto(List<FindBoard> boardList, String nextPageToken) {
         return FindBoardResponseDto.builder()
                 .boardList(boardList)
+                .nextPageToken(nextPageToken)
                 .build();
     }
 
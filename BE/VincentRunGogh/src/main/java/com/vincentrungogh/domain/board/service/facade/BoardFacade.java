@@ -3,33 +3,28 @@ package com.vincentrungogh.domain.board.service.facade;
 import com.vincentrungogh.domain.board.entity.BoardType;
 import com.vincentrungogh.domain.board.service.BoardContext;
 import com.vincentrungogh.domain.board.service.BoardService;
+import com.vincentrungogh.domain.board.service.dto.common.BoardSearchCondition;
 import com.vincentrungogh.domain.board.service.dto.request.SaveBoardRequestDto;
 import com.vincentrungogh.domain.board.service.dto.response.FindBoardResponseDto;
 import com.vincentrungogh.domain.drawing.entity.Drawing;
-import com.vincentrungogh.domain.drawing.entity.MongoDrawingDetail;
-import com.vincentrungogh.domain.drawing.repository.DrawingDetailRepository;
+import com.vincentrungogh.domain.drawing.entity.MongoDrawingTrack;
 import com.vincentrungogh.domain.drawing.repository.DrawingRepository;
-import com.vincentrungogh.domain.drawing.repository.MongoDrawingRepository;
 import com.vincentrungogh.domain.drawing.service.DrawingService;
+import com.vincentrungogh.domain.drawing.service.DrawingTrackService;
 import com.vincentrungogh.domain.route.entity.Route;
+import com.vincentrungogh.domain.route.service.RouteGeometryService;
 import com.vincentrungogh.domain.route.service.RouteService;
-import com.vincentrungogh.domain.route.service.dto.common.Position;
-import com.vincentrungogh.domain.route.service.dto.request.DataSaveRouteRequestDto;
 import com.vincentrungogh.domain.route.service.dto.response.DataSaveRouteResponseDto;
 import com.vincentrungogh.domain.user.entity.User;
 import com.vincentrungogh.domain.user.service.UserService;
 import com.vincentrungogh.global.auth.service.dto.response.UserPrincipal;
 import com.vincentrungogh.global.exception.CustomException;
 import com.vincentrungogh.global.exception.ErrorCode;
-import com.vincentrungogh.global.service.AwsService;
-import com.vincentrungogh.global.service.PythonApiService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -37,10 +32,9 @@ public class BoardFacade {
 
     private final UserService userService;
     private final BoardContext boardContext;
-    private final MongoDrawingRepository mongoDrawingRepository;
+    private final DrawingTrackService drawingTrackService;
     private final DrawingRepository drawingRepository;
-    private final DrawingDetailRepository drawingDetailRepository;
-    private final PythonApiService pythonApiService;
+    private final RouteGeometryService routeGeometryService;
     private final RouteService routeService;
     private final BoardService boardService;
     private final DrawingService drawingService;
@@ -48,7 +42,7 @@ public class BoardFacade {
 
     // getBoard
     @Transactional
-    public FindBoardResponseDto getBoard(UserPrincipal userPrincipal, String type, Double lat, Double lng) {
+    public FindBoardResponseDto getBoard(UserPrincipal userPrincipal, String type, BoardSearchCondition condition) {
         // 1. 먼저 사용자 확인하기
         User user = userService.getUserById(userPrincipal.getId());
 
@@ -61,7 +55,7 @@ public class BoardFacade {
             throw new CustomException(ErrorCode.INVALID_PARAM_TYPE);
         }
 
-        FindBoardResponseDto responseDto = boardContext.findBoard(user, boardType, lat, lng);
+        FindBoardResponseDto responseDto = boardContext.findBoard(user, boardType, condition);
 
         return responseDto;
     }
@@ -84,22 +78,10 @@ public class BoardFacade {
         Drawing drawing = drawingRepository.findById(requestDto.getDrawingId())
                 .orElseThrow(() -> new CustomException(ErrorCode.DRAWING_NOT_FOUND));
         log.info("drawing 아이디는 잘 받아와지나? " + drawing.getId());
-        // 1-2. 드로잉 디테일 찾기
-        List<String> drawingDetailIds = drawingDetailRepository.findAllIdsByDrawing(drawing);
-        log.info("drawing 디테일 아이디는 잘 받아와지나? " + drawingDetailIds);
-        // 1-3. 드로잉 디테일에서 좌표 정보 찾기
-        List<MongoDrawingDetail> mongoDrawingPositionList = mongoDrawingRepository.findAllByIdIn(drawingDetailIds);
-        log.info("drawing mongoDB " + mongoDrawingPositionList);
-        // 1-4. 좌표 정보 싹다 list화 시키기
-        List<Position> drawingPositionList = mongoDrawingPositionList.stream()
-                .flatMap(mongoDrawing -> mongoDrawing.getPositionList().stream())
-                .toList();
-        // 2. 긁어온 좌표들을 싹 다 가져와서 파이썬 서버에 보낸다(자유드로잉, 루트드로잉?)
-        // 2-1. 가져온 좌표 기반 루트 생성하도록 파이썬에 보내기
-        DataSaveRouteRequestDto dataRequestDto = DataSaveRouteRequestDto.createDataSaveRouteRequestDto(drawingPositionList);
-
-        // 파이썬 서버에서 request는 좌표들, 반환된 것은(도로 좌표들)
-        DataSaveRouteResponseDto dataResponseDto = pythonApiService.saveRoute(dataRequestDto);
+        // 1-2. 드로잉 트랙 (디테일 저장 순서대로 구간이 쌓여 있음)
+        MongoDrawingTrack track = drawingTrackService.getTrack(drawing);
+        // 2. 트랙의 구간들을 이어 붙여 중심, 거리 계산 후 몽고에 루트 좌표 저장
+        DataSaveRouteResponseDto dataResponseDto = routeGeometryService.saveRoute(track);
 
         // 도로좌표를 받아오면 그걸 sql 루트에 저장을 해야함.
         // 루트, 자유
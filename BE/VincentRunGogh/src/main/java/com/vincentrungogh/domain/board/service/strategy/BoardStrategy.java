@@ -1,8 +1,9 @@
 package com.vincentrungogh.domain.board.service.strategy;
 
+import com.vincentrungogh.domain.board.service.dto.common.BoardSearchCondition;
 import com.vincentrungogh.domain.board.service.dto.response.FindBoardResponseDto;
 import com.vincentrungogh.domain.user.entity.User;
 
 public interface BoardStrategy {
-    FindBoardResponseDto findBoard(User user, double lat, double lng);
+    FindBoardResponseDto findBoard(User user, BoardSearchCondition condition);
 }
@@ -1,8 +1,10 @@
 package com.vincentrungogh.domain.board.service.strategy;
 
-import com.vincentrungogh.domain.board.entity.Board;
+import com.vincentrungogh.domain.board.entity.BoardFeedRow;
 import com.vincentrungogh.domain.board.repository.BoardRepository;
-import com.vincentrungogh.domain.board.repository.UserLikeRepository;
+import com.vincentrungogh.domain.board.service.BoardLikeResolver;
+import com.vincentrungogh.domain.board.service.dto.common.BoardCursor;
+import com.vincentrungogh.domain.board.service.dto.common.BoardSearchCondition;
 import com.vincentrungogh.domain.board.service.dto.common.FindBoard;
 import com.vincentrungogh.domain.board.service.dto.response.FindBoardResponseDto;
 import com.vincentrungogh.domain.myhealth.entity.MyHealth;
@@ -15,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 import java.util.Objects;
 
 @Slf4j
@@ -23,11 +26,11 @@ import java.util.Objects;
 public class FindAllBoard implements BoardStrategy {
 
     private final BoardRepository boardRepository;
-    private final UserLikeRepository userLikeRepository;
+    private final BoardLikeResolver boardLikeResolver;
     private final MyHealthRepository myHealthRepository;
 
     @Override
-    public FindBoardResponseDto findBoard(User user, double lat, double lng) {
+    public FindBoardResponseDto findBoard(User user, BoardSearchCondition condition) {
 
         MyHealth myHealth = myHealthRepository.findByUser(user)
                 .orElseThrow(() -> new CustomException(ErrorCode.MYHEALTH_NOT_FOUND));
@@ -36,24 +39,34 @@ public class FindAllBoard implements BoardStrategy {
         log.info("내 속도 : " + averageSpeed);
         boolean averageSpeedUnderZero = averageSpeed <= 0;
 
-        // 모든 게시글 sql에서 조회하기
-        List<Board> boardList = boardRepository.findAllByOrderByCreatedDesc();
+        // 삭제되지 않은 게시글을 커서 이후부터 한 페이지 + 1개 조회 (다음 페이지 여부 확인용, 루트/작성자 컬럼까지 한 번에)
+        List<BoardFeedRow> boardList = boardRepository.findFeedPage(condition.getCursor(), condition.getSize() + 1);
 
-        log.info("boardList "+ boardList);
+        boolean hasNext = boardList.size() > condition.getSize();
+        if (hasNext) {
+            boardList = boardList.subList(0, condition.getSize());
+        }
+
+        // 좋아요 여부 한 번에 조회
+        Set<Integer> likedBoardIds = boardLikeResolver.findLikedBoardIdsByRows(user, boardList);
 
         List<FindBoard> findBoardList = boardList.stream()
-                .filter(board -> !board.getIsDelete())
                 .map(board -> {
-                    boolean isLiked = userLikeRepository.findByUserAndBoard(user, board).isPresent();
-                    int predictedTime = averageSpeedUnderZero ? 0: (int) ((board.getRoute().getDistance() / 1000.0) / averageSpeed * 3600) ;
-                    return FindBoard.createFindBoard(board, lat, lng, isLiked, predictedTime);
+                    boolean isLiked = likedBoardIds.contains(board.getBoardId());
+                    int predictedTime = averageSpeedUnderZero ? 0: (int) ((board.getDistance() / 1000.0) / averageSpeed * 3600) ;
+                    return FindBoard.createFindBoard(board, condition.getLat(), condition.getLng(), isLiked, predictedTime);
                 })
                 .filter(Objects::nonNull) // null 값 제거
                 .toList();
 
-        log.info("findALLBoardList "+ findBoardList);
+        // 다음 페이지 토큰
+        String nextPageToken = null;
+        if (hasNext) {
+            BoardFeedRow last = boardList.get(boardList.size() - 1);
+            nextPageToken = BoardCursor.createBoardCursor(last.getCreated(), last.getBoardId()).encode();
+        }
 
-        return FindBoardResponseDto.createFindBoardResponseDto(findBoardList);
+        return FindBoardResponseDto.createFindBoardResponseDto(findBoardList, nextPageToken);
 
     }
 
@@ -1,8 +1,9 @@
 package com.vincentrungogh.domain.board.service.strategy;
 
-import com.vincentrungogh.domain.board.entity.Board;
+import com.vincentrungogh.domain.board.entity.BoardFeedRow;
 import com.vincentrungogh.domain.board.repository.BoardRepository;
-import com.vincentrungogh.domain.board.repository.UserLikeRepository;
+import com.vincentrungogh.domain.board.service.BoardLikeResolver;
+import com.vincentrungogh.domain.board.service.dto.common.BoardSearchCondition;
 import com.vincentrungogh.domain.board.service.dto.common.FindBoard;
 import com.vincentrungogh.domain.board.service.dto.response.FindBoardResponseDto;
 import com.vincentrungogh.domain.myhealth.entity.MyHealth;
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 import java.util.Objects;
 
 @Service("FindMineBoard")
@@ -22,11 +24,11 @@ import java.util.Objects;
 public class FindMineBoard implements BoardStrategy {
 
     private final BoardRepository boardRepository;
-    private final UserLikeRepository userLikeRepository;
+    private final BoardLikeResolver boardLikeResolver;
     private final MyHealthRepository myHealthRepository;
 
     @Override
-    public FindBoardResponseDto findBoard(User user, double lat, double lng) {
+    public FindBoardResponseDto findBoard(User user, BoardSearchCondition condition) {
 
         MyHealth myHealth = myHealthRepository.findByUser(user)
                 .orElseThrow(() -> new CustomException(ErrorCode.MYHEALTH_NOT_FOUND));
@@ -35,14 +37,16 @@ public class FindMineBoard implements BoardStrategy {
         boolean averageSpeedUnderZero = averageSpeed <= 0;
 
         // 내가 쓴 게시글 sql에서 조회하기
-        List<Board> boardList = boardRepository.findByRouteUserOrderByCreatedDesc(user);
+        List<BoardFeedRow> boardList = boardRepository.findFeedByWriter(user);
+
+        // 좋아요 여부 한 번에 조회
+        Set<Integer> likedBoardIds = boardLikeResolver.findLikedBoardIdsByRows(user, boardList);
 
         List<FindBoard> findBoardList = boardList.stream()
-                .filter(board -> !board.getIsDelete())
                 .map(board -> {
-                    boolean isLiked = userLikeRepository.findByUserAndBoard(user, board).isPresent();
-                    int predictedTime = averageSpeedUnderZero ? 0: (int) ((board.getRoute().getDistance() / 1000.0) / averageSpeed * 3600) ;
-                    return FindBoard.createFindBoard(board, lat, lng, isLiked, predictedTime);
+                    boolean isLiked = likedBoardIds.contains(board.getBoardId());
+                    int predictedTime = averageSpeedUnderZero ? 0: (int) ((board.getDistance() / 1000.0) / averageSpeed * 3600) ;
+                    return FindBoard.createFindBoard(board, condition.getLat(), condition.getLng(), isLiked, predictedTime);
                 })
                 .filter(Objects::nonNull) // null 값 제거
                 .toList();
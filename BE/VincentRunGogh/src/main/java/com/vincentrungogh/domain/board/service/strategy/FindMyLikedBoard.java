@@ -1,9 +1,11 @@
 package com.vincentrungogh.domain.board.service.strategy;
 
 import com.vincentrungogh.domain.board.entity.Board;
+import com.vincentrungogh.domain.board.entity.BoardFeedRow;
 import com.vincentrungogh.domain.board.entity.UserLike;
 import com.vincentrungogh.domain.board.repository.BoardRepository;
 import com.vincentrungogh.domain.board.repository.UserLikeRepository;
+import com.vincentrungogh.domain.board.service.dto.common.BoardSearchCondition;
 import com.vincentrungogh.domain.board.service.dto.common.FindBoard;
 import com.vincentrungogh.domain.board.service.dto.response.FindBoardResponseDto;
 import com.vincentrungogh.domain.myhealth.entity.MyHealth;
@@ -29,7 +31,7 @@ public class FindMyLikedBoard implements BoardStrategy {
     private final MyHealthRepository myHealthRepository;
 
     @Override
-    public FindBoardResponseDto findBoard(User user, double lat, double lng) {
+    public FindBoardResponseDto findBoard(User user, BoardSearchCondition condition) {
 
         MyHealth myHealth = myHealthRepository.findByUser(user)
                 .orElseThrow(() -> new CustomException(ErrorCode.MYHEALTH_NOT_FOUND));
@@ -52,7 +54,7 @@ public class FindMyLikedBoard implements BoardStrategy {
                 .map(board -> {
                     boolean isLiked = true;
                     int predictedTime = averageSpeedUnderZero ? 0: (int) ((board.getRoute().getDistance() / 1000.0) / averageSpeed * 3600) ;
-                    return FindBoard.createFindBoard(board, lat, lng, isLiked, predictedTime);
+                    return FindBoard.createFindBoard(BoardFeedRow.createBoardFeedRow(board), condition.getLat(), condition.getLng(), isLiked, predictedTime);
                         })
                 .filter(Objects::nonNull)
                 .toList();
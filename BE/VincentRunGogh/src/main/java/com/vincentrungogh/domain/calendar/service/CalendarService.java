@@ -2,6 +2,7 @@ package com.vincentrungogh.domain.calendar.service;
 
 import com.vincentrungogh.domain.calendar.service.dto.response.*;
 import com.vincentrungogh.domain.drawing.entity.*;
+import com.vincentrungogh.domain.drawing.repository.DrawingDailyActivityRepository;
 import com.vincentrungogh.domain.drawing.repository.DrawingDetailRepository;
 import com.vincentrungogh.domain.drawing.repository.DrawingRepository;
 import com.vincentrungogh.domain.route.entity.Route;
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 
 @Service
@@ -27,6 +29,7 @@ public class CalendarService {
     private final UserRepository userRepository;
     private final DrawingRepository drawingRepository;
     private final DrawingDetailRepository drawingDetailRepository;
+    private final DrawingDailyActivityRepository drawingDailyActivityRepository;
 
     // 월별 드로잉 데이터 조회
     @Transactional
@@ -44,8 +47,15 @@ public class CalendarService {
                 () -> new CustomException(ErrorCode.USER_NOT_FOUND)
         );
 
-        // 2. 할당된 유저 엔티티로 QueryDSL
-        List<DrawingDetailGroup> drawingDetailGroups = drawingDetailRepository.findAllByUserGroupBySameDay(user, calendarYear, calendarMonth);
+        // 2. 일별 누적 테이블에서 해당 월 조회 (제목이 없는 진행 중 자유 드로잉 제외)
+        LocalDate startOfMonth = LocalDate.of(calendarYear, calendarMonth, 1);
+        LocalDate endOfMonth = startOfMonth.with(TemporalAdjusters.lastDayOfMonth());
+        List<DrawingDetailGroup> drawingDetailGroups = drawingDailyActivityRepository.findDailyActivities(user.getId(), startOfMonth, endOfMonth)
+                .stream()
+                .filter(row -> row.getDrawingTitle() != null)
+                .map(row -> new DrawingDetailGroup(row.getDrawingId(), row.getDrawingTitle(), row.getActivityDate().toString(),
+                        row.getTotalTime(), row.getTotalDistance(), row.getIsCompleted()))
+                .toList();
         log.info(drawingDetailGroups.toString());
 
         // 3. HashMap에 DrawingLastDayResponse 저장하기
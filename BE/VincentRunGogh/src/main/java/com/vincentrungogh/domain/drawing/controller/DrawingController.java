@@ -11,15 +11,18 @@ import com.vincentrungogh.domain.route.service.dto.response.FindRouteResponseDto
 import com.vincentrungogh.global.auth.service.dto.response.UserPrincipal;
 import com.vincentrungogh.global.util.CommonSwaggerResponse;
 import com.vincentrungogh.global.util.ResultDto;
+import com.vincentrungogh.global.util.TrackSimplifier;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 @RestController
 @RequestMapping("/drawings")
@@ -89,10 +92,14 @@ public class DrawingController {
     @PostMapping("/start")
     public ResponseEntity<?> startDrawing(@AuthenticationPrincipal UserPrincipal userPrincipal,
                                           @RequestBody StartDrawingRequest request,
-                                          @RequestParam String type){
+                                          @RequestParam String type,
+                                          // 루트 좌표 간소화 허용 오차(미터), 없으면 줌 레벨의 1픽셀 크기
+                                          @RequestParam(required = false) Double tolerance,
+                                          @RequestParam(required = false) Integer zoom){
 
         log.info("/drawing/start 루트 아이디 "+ request.getRouteId());
-        StartDrawingResponse response = drawingService.startDrawing(userPrincipal.getId(), request, type);
+        StartDrawingResponse response = drawingService.startDrawing(userPrincipal.getId(), request, type,
+                TrackSimplifier.toleranceOf(tolerance, zoom, request.getLat()));
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(ResultDto.res(HttpStatus.OK.value(), "드로잉이 시작되었습니다.", response));
@@ -109,10 +116,14 @@ public class DrawingController {
     @PostMapping("/start/{drawingId}")
     public ResponseEntity<?> restartDrawing(@AuthenticationPrincipal UserPrincipal userPrincipal,
                                             @PathVariable int drawingId,
-                                            @RequestBody @Valid RestartDrawingRequest request){
+                                            @RequestBody @Valid RestartDrawingRequest request,
+                                            // 루트, 드로잉 좌표 간소화 허용 오차(미터), 없으면 줌 레벨의 1픽셀 크기
+                                            @RequestParam(required = false) Double tolerance,
+                                            @RequestParam(required = false) Integer zoom){
 
         log.info("drawings/start/" + drawingId);
-        RestartDrawingResponse response = drawingService.restartDrawing(drawingId, request, userPrincipal.getId());
+        RestartDrawingResponse response = drawingService.restartDrawing(drawingId, request, userPrincipal.getId(),
+                TrackSimplifier.toleranceOf(tolerance, zoom, request.getLat()));
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(ResultDto.res(HttpStatus.OK.value(), "드로잉이 시작되었습니다.", response));
@@ -140,6 +151,33 @@ public class DrawingController {
 
     }
 
+    @Operation(summary = "드로잉 저장 (multipart)", description = "이미지를 base64 대신 파일로 받아 드로잉 저장")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "드로잉이 저장되었습니다.",
+                    content = @Content(schema = @Schema(implementation = SaveDrawingResponse.class))),
+            @ApiResponse(responseCode = "400", description = "이미지 파일이 비어있습니다.",
+                    content = @Content(schema = @Schema(implementation = ResultDto.class))),
+            @ApiResponse(responseCode = "500", description = "드로잉을 저장하는데 실패했습니다.",
+                    content = @Content(schema = @Schema(implementation = ResultDto.class)))
+    })
+    @CommonSwaggerResponse.CommonResponses
+    @PostMapping(value = "/{drawingId}/multipart", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> saveDrawingMultipart(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                  @PathVariable int drawingId,
+                                                  @RequestPart("request") @Valid SaveDrawingInfoRequest request,
+                                                  @RequestPart("drawingImage") MultipartFile drawingImage,
+                                                  @RequestPart("drawingDetailImage") MultipartFile drawingDetailImage){
+
+        log.info("/drawings/"+drawingId + "/multipart userId:" + userPrincipal.getId());
+        SaveDrawingResponse response =  drawingService.saveDrawing(userPrincipal.getId(), drawingId, request,
+                drawingImage, drawingDetailImage);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ResultDto.res(HttpStatus.OK.value(), "드로잉이 저장되었습니다.", response));
+
+    }
+
     @Operation(summary = "드로잉 재저장", description = "드로잉 저장 시 오류가 발생했을 경우 " +
             "gps 배열을 받아서 저장 시도")
     @ApiResponses(value = {
@@ -186,6 +224,33 @@ public class DrawingController {
 
     }
 
+    @Operation(summary = "드로잉 완료 (multipart)", description = "이미지를 base64 대신 파일로 받아 드로잉 완료")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "드로잉이 완료되었습니다.",
+                    content = @Content(schema = @Schema(implementation = SaveDrawingResponse.class))),
+            @ApiResponse(responseCode = "400", description = "이미지 파일이 비어있습니다.",
+                    content = @Content(schema = @Schema(implementation = ResultDto.class))),
+            @ApiResponse(responseCode = "500", description = "드로잉을 완료하는데 실패했습니다.",
+                    content = @Content(schema = @Schema(implementation = ResultDto.class)))
+    })
+    @CommonSwaggerResponse.CommonResponses
+    @PostMapping(value = "/end/{drawingId}/multipart", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> completeDrawingMultipart(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                      @PathVariable int drawingId,
+                                                      @RequestPart("request") @Valid CompleteDrawingInfoRequest request,
+                                                      @RequestPart("drawingImage") MultipartFile drawingImage,
+                                                      @RequestPart("drawingDetailImage") MultipartFile drawingDetailImage){
+
+        log.info("/drawings/end"+drawingId + "/multipart userId:" + userPrincipal.getId());
+        SaveDrawingResponse response =  drawingService.completeDrawing(userPrincipal.getId(), drawingId, request,
+                drawingImage, drawingDetailImage);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ResultDto.res(HttpStatus.OK.value(), "드로잉이 완료되었습니다.", response));
+
+    }
+
     @Operation(summary = "드로잉 재완료", description = "드로잉 완료 시 오류가 발생했을 경우 gps 정보를 받아 완료 요청 시도")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "드로잉이 완료되었습니다.",
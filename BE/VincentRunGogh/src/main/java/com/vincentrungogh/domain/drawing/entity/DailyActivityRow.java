@@ -0,0 +1,23 @@
+package com.vincentrungogh.domain.drawing.entity;
+
+// 캘린더, 마이헬스, 주간 운동 조회에서 일별 누적 정보를 받기 위한 클래스 (QueryDSL 프로젝션)
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class DailyActivityRow {
+    private int drawingId;
+    private String drawingTitle;
+    private LocalDate activityDate;
+    private int totalTime;
+    private int totalDistance;
+    private int totalStep;
+    private double speedSum;
+    private int detailCount;
+    private Boolean isCompleted;
+}
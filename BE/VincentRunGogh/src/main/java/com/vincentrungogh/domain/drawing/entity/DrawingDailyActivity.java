@@ -0,0 +1,61 @@
+package com.vincentrungogh.domain.drawing.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 유저, 드로잉, 날짜별 드로잉 디테일 누적 (드로잉 디테일 저장 시 함께 갱신)
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "drawing_daily_activity",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_drawing_daily_activity", columnNames = {"user_id", "drawing_id", "activity_date"})
+        },
+        indexes = {
+                // 기간 조회
+                @Index(name = "idx_drawing_daily_activity_user_date", columnList = "user_id, activity_date")
+        })
+public class DrawingDailyActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private int id;
+
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    @Column(name = "drawing_id", nullable = false)
+    private int drawingId;
+
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    // 총 시간
+    @Column(name = "total_time", nullable = false)
+    private int totalTime;
+
+    // 총 거리
+    @Column(name = "total_distance", nullable = false)
+    private int totalDistance;
+
+    // 총 걸음 수
+    @Column(name = "total_step", nullable = false)
+    private int totalStep;
+
+    // 속력 합 (평균 속력 = speedSum / detailCount)
+    @Column(name = "speed_sum", nullable = false)
+    private double speedSum;
+
+    // 드로잉 디테일 수
+    @Column(name = "detail_count", nullable = false)
+    private int detailCount;
+
+    // 완료된 드로잉 디테일 포함 여부
+    @Column(name = "is_completed", nullable = false)
+    private Boolean isCompleted;
+}
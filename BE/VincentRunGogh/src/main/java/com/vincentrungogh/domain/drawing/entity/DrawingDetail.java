@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "drawings_detail")
+// created 기준 월별 RANGE 파티션 테이블 (db/migration/drawings_detail_partition.sql)
+// 파티션 테이블은 외래 키를 지원하지 않으므로 drawing_id 외래 키는 만들지 않는다
+@Table(name = "drawings_detail", indexes = {
+        @Index(name = "idx_drawings_detail_drawing_created", columnList = "drawing_id, created")
+})
 public class DrawingDetail {
 
     @Id
@@ -49,7 +53,7 @@ public class DrawingDetail {
     private LocalDateTime created;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "drawing_id")
+    @JoinColumn(name = "drawing_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Drawing drawing;
 
     @Builder
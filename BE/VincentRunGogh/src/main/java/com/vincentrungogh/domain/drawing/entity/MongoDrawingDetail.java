@@ -1,8 +1,11 @@
 package com.vincentrungogh.domain.drawing.entity;
 
+import com.vincentrungogh.domain.route.service.dto.common.Geometry;
 import com.vincentrungogh.domain.route.service.dto.common.Position;
 import jakarta.persistence.Id;
+import com.vincentrungogh.global.util.TrackSimplifier;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -17,6 +20,48 @@ public class MongoDrawingDetail {
     @Id
     private String id;
 
+    // 압축 좌표 (GeometryCodec, BSON binary)
+    @Field(name = "geometry")
+    private Geometry geometry;
+
+    // 마이그레이션 전 문서의 좌표 ({lat, lng} 배열)
     @Field(name = "positionList") //column 대신 mongodb에서 사용
     private List<Position> positionList;
+
+    // 좌표별 간소화 단계 (TrackSimplifier, 저장 시 계산)
+    @Field(name = "lodLevels")
+    private byte[] lodLevels;
+
+    @Builder
+    private MongoDrawingDetail(Geometry geometry, byte[] lodLevels) {
+        this.geometry = geometry;
+        this.lodLevels = lodLevels;
+    }
+
+    public static MongoDrawingDetail createMongoDrawingDetail(Geometry geometry) {
+        return MongoDrawingDetail.builder()
+                .geometry(geometry)
+                .lodLevels(TrackSimplifier.computeLevels(geometry))
+                .build();
+    }
+
+    public static MongoDrawingDetail createMongoDrawingDetail(List<Position> positionList) {
+        return createMongoDrawingDetail(Geometry.createGeometry(positionList));
+    }
+
+    public Geometry getGeometry() {
+        if (geometry == null) {
+            return Geometry.createGeometry(positionList == null ? List.of() : positionList);
+        }
+        return geometry;
+    }
+
+    public List<Position> getPositionList() {
+        return getGeometry().toPositionList();
+    }
+
+    // 허용 오차(미터)만큼 간소화한 좌표 (0이면 원본)
+    public List<Position> getPositionList(double tolerance) {
+        return TrackSimplifier.simplify(getGeometry(), lodLevels, tolerance).toPositionList();
+    }
 }
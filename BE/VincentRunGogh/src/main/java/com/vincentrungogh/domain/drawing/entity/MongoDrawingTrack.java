@@ -0,0 +1,38 @@
+package com.vincentrungogh.domain.drawing.entity;
+
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 드로잉 하나의 모든 디테일 좌표를 저장 순서대로 모아 둔 문서 (디테일 저장 시 segments에 $push)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Document(collection = "drawing_track")
+public class MongoDrawingTrack {
+    // 드로잉 아이디
+    @Id
+    private Integer id;
+
+    @Field(name = "segments")
+    private List<MongoTrackSegment> segments = new ArrayList<>();
+
+    @Builder
+    private MongoDrawingTrack(Integer id, List<MongoTrackSegment> segments) {
+        this.id = id;
+        this.segments = segments;
+    }
+
+    public static MongoDrawingTrack createMongoDrawingTrack(int drawingId, List<MongoTrackSegment> segments) {
+        return MongoDrawingTrack.builder()
+                .id(drawingId)
+                .segments(segments)
+                .build();
+    }
+}
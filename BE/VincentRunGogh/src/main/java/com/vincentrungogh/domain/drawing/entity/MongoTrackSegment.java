@@ -0,0 +1,51 @@
+package com.vincentrungogh.domain.drawing.entity;
+
+import com.vincentrungogh.domain.route.service.dto.common.Geometry;
+import com.vincentrungogh.domain.route.service.dto.common.Position;
+import com.vincentrungogh.global.util.TrackSimplifier;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.List;
+
+// 드로잉 트랙의 구간 하나 (드로잉 디테일 하나)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MongoTrackSegment {
+
+    @Field(name = "drawingDetailId")
+    private String drawingDetailId;
+
+    // 압축 좌표 (GeometryCodec, BSON binary)
+    @Field(name = "geometry")
+    private Geometry geometry;
+
+    // 좌표별 간소화 단계 (TrackSimplifier)
+    @Field(name = "lodLevels")
+    private byte[] lodLevels;
+
+    @Builder
+    private MongoTrackSegment(String drawingDetailId, Geometry geometry, byte[] lodLevels) {
+        this.drawingDetailId = drawingDetailId;
+        this.geometry = geometry;
+        this.lodLevels = lodLevels;
+    }
+
+    public static MongoTrackSegment createMongoTrackSegment(String drawingDetailId, MongoDrawingDetail mongoDrawingDetail) {
+        Geometry geometry = mongoDrawingDetail.getGeometry();
+        byte[] lodLevels = mongoDrawingDetail.getLodLevels();
+        return MongoTrackSegment.builder()
+                .drawingDetailId(drawingDetailId)
+                .geometry(geometry)
+                .lodLevels(lodLevels != null ? lodLevels : TrackSimplifier.computeLevels(geometry))
+                .build();
+    }
+
+    // 허용 오차(미터)만큼 간소화한 좌표 (0이면 원본)
+    public List<Position> getPositionList(double tolerance) {
+        return TrackSimplifier.simplify(geometry, lodLevels, tolerance).toPositionList();
+    }
+}
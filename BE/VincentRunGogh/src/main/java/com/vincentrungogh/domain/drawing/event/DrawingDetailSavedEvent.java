@@ -0,0 +1,18 @@
+package com.vincentrungogh.domain.drawing.event;
+
+import com.vincentrungogh.domain.drawing.entity.DrawingDetail;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 드로잉 디테일이 저장되었을 때 발행하는 이벤트
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DrawingDetailSavedEvent {
+    private final int drawingId;
+    private final String drawingDetailId;
+
+    public static DrawingDetailSavedEvent createDrawingDetailSavedEvent(DrawingDetail drawingDetail) {
+        return new DrawingDetailSavedEvent(drawingDetail.getDrawing().getId(), drawingDetail.getId());
+    }
+}
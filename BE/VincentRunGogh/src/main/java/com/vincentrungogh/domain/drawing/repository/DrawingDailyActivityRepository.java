@@ -0,0 +1,46 @@
+package com.vincentrungogh.domain.drawing.repository;
+
+import com.vincentrungogh.domain.drawing.entity.DrawingDailyActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface DrawingDailyActivityRepository extends JpaRepository<DrawingDailyActivity, Integer>, DrawingDailyActivityRepositoryCustom {
+
+    // 드로잉 디테일 하나를 해당 날짜에 누적 (날짜는 백필과 같이 DB의 DATE(created) 기준)
+    @Modifying
+    @Query(value = "INSERT INTO drawing_daily_activity " +
+            "(user_id, drawing_id, activity_date, total_time, total_distance, total_step, speed_sum, detail_count, is_completed) " +
+            "VALUES (:userId, :drawingId, DATE(:created), :time, :distance, :step, :speed, 1, :isCompleted) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_time = total_time + VALUES(total_time), " +
+            "total_distance = total_distance + VALUES(total_distance), " +
+            "total_step = total_step + VALUES(total_step), " +
+            "speed_sum = speed_sum + VALUES(speed_sum), " +
+            "detail_count = detail_count + 1, " +
+            "is_completed = is_completed OR VALUES(is_completed)", nativeQuery = true)
+    int accumulate(@Param("userId") int userId, @Param("drawingId") int drawingId,
+                   @Param("created") LocalDateTime created, @Param("time") int time,
+                   @Param("distance") int distance, @Param("step") int step,
+                   @Param("speed") double speed, @Param("isCompleted") boolean isCompleted);
+
+    // 기존 드로잉 디테일로 다시 계산 (여러 번 실행해도 같은 결과)
+    @Modifying
+    @Query(value = "INSERT INTO drawing_daily_activity " +
+            "(user_id, drawing_id, activity_date, total_time, total_distance, total_step, speed_sum, detail_count, is_completed) " +
+            "SELECT d.user_id, dd.drawing_id, DATE(dd.created), SUM(dd.time), SUM(dd.distance), SUM(dd.step), " +
+            "SUM(dd.speed), COUNT(*), MAX(dd.is_completed) " +
+            "FROM drawings_detail dd JOIN drawings d ON dd.drawing_id = d.id " +
+            "GROUP BY d.user_id, dd.drawing_id, DATE(dd.created) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_time = VALUES(total_time), " +
+            "total_distance = VALUES(total_distance), " +
+            "total_step = VALUES(total_step), " +
+            "speed_sum = VALUES(speed_sum), " +
+            "detail_count = VALUES(detail_count), " +
+            "is_completed = VALUES(is_completed)", nativeQuery = true)
+    int backfill();
+}
@@ -0,0 +1,10 @@
+package com.vincentrungogh.domain.drawing.repository;
+
+import com.vincentrungogh.domain.drawing.entity.DailyActivityRow;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DrawingDailyActivityRepositoryCustom {
+    List<DailyActivityRow> findDailyActivities(int userId, LocalDate start, LocalDate end);
+}
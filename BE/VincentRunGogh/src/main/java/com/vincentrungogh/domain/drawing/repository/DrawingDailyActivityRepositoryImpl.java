@@ -0,0 +1,42 @@
+package com.vincentrungogh.domain.drawing.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.vincentrungogh.domain.drawing.entity.DailyActivityRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.vincentrungogh.domain.drawing.entity.QDrawing.drawing;
+import static com.vincentrungogh.domain.drawing.entity.QDrawingDailyActivity.drawingDailyActivity;
+
+@Repository
+@RequiredArgsConstructor
+public class DrawingDailyActivityRepositoryImpl implements DrawingDailyActivityRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    // (user_id, activity_date) 인덱스 범위 조회, 드로잉 제목은 PK 조인
+    @Override
+    public List<DailyActivityRow> findDailyActivities(int userId, LocalDate start, LocalDate end) {
+        return queryFactory
+                .select(Projections.constructor(DailyActivityRow.class,
+                        drawingDailyActivity.drawingId,
+                        drawing.title,
+                        drawingDailyActivity.activityDate,
+                        drawingDailyActivity.totalTime,
+                        drawingDailyActivity.totalDistance,
+                        drawingDailyActivity.totalStep,
+                        drawingDailyActivity.speedSum,
+                        drawingDailyActivity.detailCount,
+                        drawingDailyActivity.isCompleted))
+                .from(drawingDailyActivity)
+                .join(drawing).on(drawing.id.eq(drawingDailyActivity.drawingId))
+                .where(drawingDailyActivity.userId.eq(userId)
+                        .and(drawingDailyActivity.activityDate.between(start, end)))
+                .orderBy(drawingDailyActivity.activityDate.asc())
+                .fetch();
+    }
+}
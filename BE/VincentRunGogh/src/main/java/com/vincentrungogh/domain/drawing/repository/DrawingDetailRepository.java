@@ -10,10 +10,9 @@ import java.util.List;
 public interface DrawingDetailRepository extends JpaRepository<DrawingDetail, Integer>, DrawingDetailRepositoryCustom {
     List<DrawingDetail> findAllByDrawingAndCreatedBetween(Drawing drawing, LocalDateTime start, LocalDateTime end);
     List<DrawingDetail> findAllByDrawing(Drawing drawing);
-    List<DrawingDetail> findAllByDrawingOrderByCreatedDesc(Drawing drawing);
 
     @Override
-    Long countAllByDrawings(List<Drawing> drawings);
+    List<DrawingDetail> findAllByDrawingOrderByCreatedDesc(Drawing drawing);
 
     @Override
     double findByDrawingAverageSpeed(Drawing drawing);
@@ -21,18 +20,9 @@ public interface DrawingDetailRepository extends JpaRepository<DrawingDetail, In
     @Override
     int findByDrawingSumDistance(Drawing drawing);
 
-    @Override
-    List<DrawingDetailGroup> findAllByUserGroupBySameDay(User user, int year, int month);
-
     @Override
     List<DrawingDetailSameDay> findByDrawingIdAndDay(User user, int drawingId, String date);
 
-    @Override
-    List<EachMonthWalkDistanceTime> findWalkDistanceTimeByYearEachMonth(User user, int year);
-
-    @Override
-    DrawingDetailToday findTodayByUser(User user);
-
     @Override
     DrawingDetailsSummary findDrawingDetailsSummary(Drawing drawing);
 }
@@ -12,8 +12,6 @@ public interface DrawingRepository extends JpaRepository<Drawing, Integer>, Draw
 
     List<Drawing> findAllByUser(User user);
 
-    List<Drawing> findAllByUserId(int userId);
-
     List<Drawing> findAllByUserAndIsCompleted(User user, Boolean isCompleted);
 //    List<Drawing> findAllByUserAndIsCompletedAndTitleIsNotNullOrderByCreated(User user, Boolean isCompleted);
 
@@ -0,0 +1,9 @@
+package com.vincentrungogh.domain.drawing.repository;
+
+import com.vincentrungogh.domain.drawing.entity.MongoDrawingTrack;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MongoDrawingTrackRepository extends MongoRepository<MongoDrawingTrack, Integer> {
+}
@@ -0,0 +1,47 @@
+package com.vincentrungogh.domain.drawing.service;
+
+import com.vincentrungogh.domain.drawing.entity.DrawingDetail;
+import com.vincentrungogh.domain.drawing.repository.DrawingDailyActivityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 캘린더, 마이헬스, 주간 운동 조회용 일별 누적 관리
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DrawingActivityService {
+
+    private final DrawingDailyActivityRepository drawingDailyActivityRepository;
+
+    @Value("${activity.rollup.backfill:false}")
+    private boolean backfill;
+
+    // 드로잉 디테일 저장과 같은 트랜잭션에서 호출
+    @Transactional
+    public void record(int userId, DrawingDetail drawingDetail) {
+        drawingDailyActivityRepository.accumulate(userId,
+                drawingDetail.getDrawing().getId(),
+                drawingDetail.getCreated(),
+                drawingDetail.getTime(),
+                drawingDetail.getDistance(),
+                drawingDetail.getStep(),
+                drawingDetail.getSpeed(),
+                drawingDetail.getIsCompleted());
+    }
+
+    // 누적 테이블 도입 이전 드로잉 디테일 반영
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfill) {
+            return;
+        }
+        int updated = drawingDailyActivityRepository.backfill();
+        log.info("일별 활동 누적 백필: {}건", updated);
+    }
+}
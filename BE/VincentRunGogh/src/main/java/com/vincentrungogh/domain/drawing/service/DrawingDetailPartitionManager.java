@@ -0,0 +1,215 @@
+package com.vincentrungogh.domain.drawing.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * drawings_detail 월별 파티션 관리 (drawing.partition.enabled=true 일 때)
+ * - 파티션이 없으면(ddl-auto로 만든 테이블) 서버 시작 시 한 번 월별 파티션으로 바꾼다.
+ *   큰 테이블은 ALTER 동안 쓰기가 막히므로 점검 시간에 db/migration/drawings_detail_partition.sql 을 직접 실행해도 된다.
+ * - 앞으로 쓸 월 파티션을 pmax에서 미리 나눠 둔다.
+ * - 보관 기간이 지난 월 파티션은 교환 테이블로 EXCHANGE 한 뒤 보관 테이블로 옮기고, 옮긴 건수를 확인하고 나서 빈 파티션을 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DrawingDetailPartitionManager {
+
+    private static final String TABLE = "drawings_detail";
+    private static final String ARCHIVE_TABLE = "drawings_detail_archive";
+    private static final String EXCHANGE_TABLE = "drawings_detail_exchange";
+    private static final String OLD_PARTITION = "p_old";
+    private static final String MAX_PARTITION = "pmax";
+    private static final String INDEX = "idx_drawings_detail_drawing_created";
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${drawing.partition.enabled:false}")
+    private boolean enabled;
+
+    @Value("${drawing.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    // 0 이하면 보관 처리하지 않음
+    @Value("${drawing.partition.retention-months:0}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        if (findPartitions().isEmpty()) {
+            partitionTable(YearMonth.now());
+        }
+        maintain();
+    }
+
+    @Scheduled(cron = "${drawing.partition.cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> partitions = findPartitions();
+        if (partitions.isEmpty()) {
+            log.warn("drawings_detail 파티션이 없습니다. 서버 시작 시 파티션 전환 로그를 확인하세요.");
+            return;
+        }
+
+        YearMonth now = YearMonth.now();
+        createFuturePartitions(partitions, now);
+        if (retentionMonths > 0) {
+            archiveExpiredPartitions(partitions, now.minusMonths(retentionMonths));
+        }
+    }
+
+    // 0. 파티션 없는 테이블을 월별 파티션으로 전환 (db/migration/drawings_detail_partition.sql 과 같은 작업)
+    private void partitionTable(YearMonth now) {
+        log.info("drawings_detail 월별 파티션 전환 시작");
+
+        // 파티션 테이블은 외래 키를 가질 수 없다
+        List<String> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND CONSTRAINT_TYPE = 'FOREIGN KEY'",
+                String.class, TABLE);
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP FOREIGN KEY " + foreignKey);
+        }
+
+        Integer indexCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.STATISTICS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?",
+                Integer.class, TABLE, INDEX);
+        if (indexCount == null || indexCount == 0) {
+            jdbcTemplate.execute("CREATE INDEX " + INDEX + " ON " + TABLE + " (drawing_id, created)");
+        }
+
+        // 파티션 키는 모든 유니크 키에 포함되어야 한다
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, created)");
+
+        // 이번 달 이전은 p_old, 이번 달부터 monthsAhead 달 뒤까지 월 파티션
+        List<String> definitions = new ArrayList<>();
+        definitions.add("PARTITION " + OLD_PARTITION + " VALUES LESS THAN (" + monthStart(now) + ")");
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = now.plusMonths(i);
+            definitions.add("PARTITION " + month.format(PARTITION_FORMAT) + " VALUES LESS THAN (" + monthStart(month.plusMonths(1)) + ")");
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE (UNIX_TIMESTAMP(created)) ("
+                + String.join(", ", definitions) + ")");
+
+        createArchiveTables();
+        log.info("drawings_detail 월별 파티션 전환 완료");
+    }
+
+    // 1. pmax를 나눠 이번 달부터 monthsAhead 달 뒤까지 파티션 생성
+    private void createFuturePartitions(List<String> partitions, YearMonth now) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = now.plusMonths(i);
+            String name = month.format(PARTITION_FORMAT);
+            if (partitions.contains(name)) {
+                continue;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                    + "PARTITION " + name + " VALUES LESS THAN (" + monthStart(month.plusMonths(1)) + "), "
+                    + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+            partitions.add(name);
+            log.info("drawings_detail 파티션 생성 : " + name);
+        }
+    }
+
+    // 2. cutoff 이전 월 파티션을 보관 테이블로 옮기고 삭제 (p_old, pmax는 그대로 둔다)
+    private void archiveExpiredPartitions(List<String> partitions, YearMonth cutoff) {
+        createArchiveTables();
+
+        // 이전 실행에서 보관 테이블로 옮기지 못한 행부터 처리
+        moveExchangeToArchive();
+
+        String cutoffName = cutoff.format(PARTITION_FORMAT);
+        for (String name : partitions) {
+            if (!name.matches("p\\d{6}") || name.compareTo(cutoffName) >= 0) {
+                continue;
+            }
+
+            // 파티션과 빈 교환 테이블을 맞바꾼다 (원자적, 파티션은 빈 상태가 됨)
+            long expected = count(TABLE + " PARTITION (" + name + ")");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " EXCHANGE PARTITION " + name + " WITH TABLE " + EXCHANGE_TABLE);
+
+            long moved = moveExchangeToArchive();
+            if (moved != expected || count(TABLE + " PARTITION (" + name + ")") != 0) {
+                log.error("drawings_detail 파티션 보관 건수 불일치 : " + name + " (예상 " + expected + "건, 이동 " + moved + "건), 삭제하지 않습니다.");
+                return;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name);
+            log.info("drawings_detail 파티션 보관 : " + name + " (" + moved + "건)");
+        }
+    }
+
+    // 교환 테이블의 행을 보관 테이블로 옮긴다 (건수가 맞을 때만 커밋, 실패하면 교환 테이블에 그대로 남음)
+    private long moveExchangeToArchive() {
+        Long moved = transactionTemplate.execute(status -> {
+            long expected = count(EXCHANGE_TABLE);
+            if (expected == 0) {
+                return 0L;
+            }
+            int inserted = jdbcTemplate.update("INSERT INTO " + ARCHIVE_TABLE + " SELECT * FROM " + EXCHANGE_TABLE);
+            if (inserted != expected) {
+                throw new IllegalStateException("보관 테이블 이동 건수 불일치 : 예상 " + expected + "건, 이동 " + inserted + "건");
+            }
+            jdbcTemplate.update("DELETE FROM " + EXCHANGE_TABLE);
+            return expected;
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    // 보관 테이블, 교환 테이블은 파티션 없는 같은 구조 (EXCHANGE PARTITION 조건)
+    private void createArchiveTables() {
+        for (String table : List.of(ARCHIVE_TABLE, EXCHANGE_TABLE)) {
+            if (tableExists(table)) {
+                continue;
+            }
+            jdbcTemplate.execute("CREATE TABLE " + table + " LIKE " + TABLE);
+            jdbcTemplate.execute("ALTER TABLE " + table + " REMOVE PARTITIONING");
+        }
+    }
+
+    private boolean tableExists(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private long count(String from) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + from, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private String monthStart(YearMonth month) {
+        return "UNIX_TIMESTAMP('" + month.atDay(1) + " 00:00:00')";
+    }
+
+    private List<String> findPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL "
+                        + "ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class, TABLE);
+    }
+}
@@ -0,0 +1,84 @@
+package com.vincentrungogh.domain.drawing.service;
+
+import com.vincentrungogh.domain.drawing.entity.Drawing;
+import com.vincentrungogh.domain.drawing.entity.DrawingDetail;
+import com.vincentrungogh.domain.drawing.event.DrawingDetailSavedEvent;
+import com.vincentrungogh.domain.drawing.repository.DrawingDetailRepository;
+import com.vincentrungogh.domain.drawing.repository.DrawingRepository;
+import com.vincentrungogh.domain.drawing.service.dto.response.DataSaveDrawingDetailResponse;
+import com.vincentrungogh.domain.drawing.service.dto.response.SaveDrawingResponse;
+import com.vincentrungogh.domain.myhealth.event.MyHealthUpdatedEvent;
+import com.vincentrungogh.domain.myhealth.repository.MyHealthRepository;
+import com.vincentrungogh.global.exception.CustomException;
+import com.vincentrungogh.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 드로잉 저장의 마지막 DB 쓰기만 트랜잭션으로 처리 (외부 호출은 트랜잭션 밖에서 끝낸 후 호출)
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DrawingPersistService {
+
+    private final DrawingRepository drawingRepository;
+    private final DrawingDetailRepository drawingDetailRepository;
+    private final MyHealthRepository myHealthRepository;
+    private final DrawingActivityService drawingActivityService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public SaveDrawingResponse saveDrawingDetail(int drawingId, DataSaveDrawingDetailResponse response,
+                                                 String drawingImageURL, String drawingDetailImageURL, int step) {
+        // 1. 드로잉
+        Drawing drawing = drawingRepository.findById(drawingId)
+                .orElseThrow(() -> new CustomException(ErrorCode.DRAWING_NOT_FOUND));
+
+        // 2. 드로잉 업데이트
+        drawing.changeAccumulatedDrawingImage(drawingImageURL);
+        drawingRepository.save(drawing);
+
+        // 3. 드로잉 디테일 저장
+        DrawingDetail drawingDetail = DrawingDetail
+                .createDrawingDetail(response, drawingDetailImageURL,
+                        drawing, step);
+        drawingDetailRepository.save(drawingDetail);
+        drawingActivityService.record(drawing.getUser().getId(), drawingDetail);
+        eventPublisher.publishEvent(DrawingDetailSavedEvent.createDrawingDetailSavedEvent(drawingDetail));
+
+        return SaveDrawingResponse
+                .createSaveDrawingResponse(drawingImageURL, drawingDetailImageURL);
+    }
+
+    @Transactional
+    public SaveDrawingResponse completeDrawingDetail(int userId, int drawingId, DataSaveDrawingDetailResponse response,
+                                                     String title, String drawingImageURL, String drawingDetailImageURL, int step) {
+        // 1. 드로잉
+        Drawing drawing = drawingRepository.findById(drawingId)
+                .orElseThrow(() -> new CustomException(ErrorCode.DRAWING_NOT_FOUND));
+
+        // 2. 드로잉 업데이트
+        drawing.completeDrawing(title, drawingImageURL);
+
+        // 3. 드로잉 디테일 저장
+        DrawingDetail drawingDetail = DrawingDetail
+                .completeDrawingDetail(response, drawingDetailImageURL,
+                        drawing, step);
+        drawingDetailRepository.save(drawingDetail);
+        drawingActivityService.record(drawing.getUser().getId(), drawingDetail);
+        eventPublisher.publishEvent(DrawingDetailSavedEvent.createDrawingDetailSavedEvent(drawingDetail));
+
+        // 4. 마이헬스 누적 (조회 없이 UPDATE 한 번)
+        int updated = myHealthRepository.accumulate(userId, response.getTime(), response.getDistance(),
+                response.getSpeed(), step);
+        if (updated == 0) {
+            throw new CustomException(ErrorCode.MYHEALTH_NOT_FOUND);
+        }
+        eventPublisher.publishEvent(MyHealthUpdatedEvent.createMyHealthUpdatedEvent(userId));
+
+        return SaveDrawingResponse
+                .createSaveDrawingResponse(drawingImageURL, drawingDetailImageURL);
+    }
+}
@@ -0,0 +1,67 @@
+package com.vincentrungogh.domain.drawing.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 드로잉 저장 시 드로잉 디테일 계산, 이미지 업로드를 동시에 실행하기 위한 스레드 풀 (커밋 이후 드로잉 트랙 구간 추가도 실행)
+ * 이메일 전송 등 @Async 기본 실행기에 영향을 주지 않도록 빈으로 등록하지 않고 내부에서만 사용한다.
+ * 큐가 가득 차면 요청 스레드에서 직접 실행한다.
+ */
+@Slf4j
+@Component
+public class DrawingSaveExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public DrawingSaveExecutor(@Value("${drawing.save.pool-size:16}") int poolSize,
+                               @Value("${drawing.save.queue-capacity:200}") int queueCapacity) {
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "drawing-save-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    // 결과를 기다리지 않는 후속 작업 (Executor 빈으로 등록되지 않도록 메서드 참조로 넘긴다)
+    public void execute(Runnable runnable) {
+        executor.execute(runnable);
+    }
+
+    // 실패한 작업의 원래 예외(CustomException 등)를 그대로 던진다
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("드로잉 저장 작업이 종료되지 않았습니다.");
+            executor.shutdownNow();
+        }
+    }
+}
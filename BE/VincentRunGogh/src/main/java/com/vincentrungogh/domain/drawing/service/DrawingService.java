@@ -2,21 +2,20 @@ package com.vincentrungogh.domain.drawing.service;
 
 import com.vincentrungogh.domain.drawing.entity.DrawingDetail;
 import com.vincentrungogh.domain.drawing.entity.DrawingDetailsSummary;
-import com.vincentrungogh.domain.drawing.entity.MongoDrawingDetail;
-import com.vincentrungogh.domain.drawing.repository.MongoDrawingRepository;
+import com.vincentrungogh.domain.drawing.entity.MongoDrawingTrack;
 import com.vincentrungogh.domain.drawing.service.dto.request.*;
 import com.vincentrungogh.domain.drawing.service.dto.response.*;
-import com.vincentrungogh.domain.myhealth.entity.MyHealth;
-import com.vincentrungogh.domain.myhealth.repository.MyHealthRepository;
 import com.vincentrungogh.domain.route.entity.MongoRoute;
 import com.vincentrungogh.domain.route.entity.Route;
 import com.vincentrungogh.domain.route.repository.MongoRouteRepository;
 import com.vincentrungogh.domain.route.repository.RouteRepository;
 import com.vincentrungogh.domain.route.service.dto.common.Position;
+import com.vincentrungogh.domain.running.service.RunningService;
+import com.vincentrungogh.domain.running.service.dto.common.RunningTrack;
 import com.vincentrungogh.domain.running.service.dto.request.RunningRequest;
 import com.vincentrungogh.domain.user.service.UserService;
 import com.vincentrungogh.global.service.AwsService;
-import com.vincentrungogh.global.service.PythonApiService;
+import com.vincentrungogh.global.service.MetricsService;
 import com.vincentrungogh.global.service.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,8 +28,11 @@ import com.vincentrungogh.domain.user.repository.UserRepository;
 import com.vincentrungogh.global.exception.CustomException;
 import com.vincentrungogh.global.exception.ErrorCode;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,13 +44,16 @@ public class DrawingService {
     private final DrawingRepository drawingRepository;
     private final UserRepository userRepository;
     private final RouteRepository routeRepository;
-    private final MyHealthRepository myHealthRepository;
-    private final MongoDrawingRepository mongoDrawingRepository;
     private final MongoRouteRepository mongoRouteRepository;
     private final UserService userService;
     private final RedisService redisService;
-    private final PythonApiService pythonApiService;
+    private final RunningService runningService;
+    private final DrawingStatisticsService drawingStatisticsService;
     private final AwsService awsService;
+    private final DrawingPersistService drawingPersistService;
+    private final DrawingSaveExecutor drawingSaveExecutor;
+    private final DrawingTrackService drawingTrackService;
+    private final MetricsService metricsService;
 
     @Transactional
     public DrawingResponseDto getDrawing(int userId, int drawingId) {
@@ -74,7 +79,7 @@ public class DrawingService {
     }
 
     @Transactional
-    public StartDrawingResponse startDrawing(int userId, StartDrawingRequest request, String type) {
+    public StartDrawingResponse startDrawing(int userId, StartDrawingRequest request, String type, double tolerance) {
 
         if(!(type.equals("free") || type.equals("route"))) {
             throw new CustomException(ErrorCode.INVALID_PARAM_TYPE);
@@ -82,8 +87,7 @@ public class DrawingService {
 
         // 0. 레디스 저장
         String routeId = request.getRouteId();
-        redisService.removeRunning(userId);
-        redisService.saveRunning(userId, RunningRequest.createRunningRequest(request.getLat(), request.getLng(), request.getTime()));
+        runningService.start(userId, RunningRequest.createRunningRequest(request.getLat(), request.getLng(), request.getTime()));
 
         // 1. 유저 여부
         User user = userService.getUserById(userId);
@@ -97,7 +101,7 @@ public class DrawingService {
         if(request.getRouteId() == null){
             throw new CustomException(ErrorCode.ROUTE_IS_NULL);
         }
-        return drawingRunning(routeId, user);
+        return drawingRunning(routeId, user, tolerance);
     }
 
     private StartDrawingResponse freeRunning(User user) {
@@ -111,7 +115,7 @@ public class DrawingService {
     }
 
 
-    private StartDrawingResponse drawingRunning(String routeId, User user) {
+    private StartDrawingResponse drawingRunning(String routeId, User user, double tolerance) {
 
         // 0. 진행 중인 드로잉 개수
         int count = drawingRepository.countAllByUserAndIsCompletedAndTitleIsNotNull(user, false);
@@ -135,33 +139,31 @@ public class DrawingService {
 
         return StartDrawingResponse
                 .createStartDrawingResponse(drawing.getTitle(),
-                        drawing.getId(), mongoRoute.getPositionList());
+                        drawing.getId(), mongoRoute.getPositionList(tolerance));
     }
 
-    public RestartDrawingResponse restartDrawing(int drawingId, RestartDrawingRequest request, int userId){
+    public RestartDrawingResponse restartDrawing(int drawingId, RestartDrawingRequest request, int userId, double tolerance){
         // 0. 레디스 저장
-        redisService.removeRunning(userId);
-        redisService.saveRunning(userId, RunningRequest.createRunningRequest(request.getLat(), request.getLng(), request.getTime()));
+        runningService.start(userId, RunningRequest.createRunningRequest(request.getLat(), request.getLng(), request.getTime()));
 
         // 1. 드로잉 찾기
         Drawing drawing = drawingRepository.findById(drawingId)
                 .orElseThrow(() -> new CustomException(ErrorCode.DRAWING_NOT_FOUND));
 
-        // 2. 드로잉디테일 찾기
-        List<String> drawingDetailIds = drawingDetailRepository.findAllIdsByDrawing(drawing);
+        // 2. 드로잉 트랙 (디테일 저장 순서대로 구간이 쌓여 있음)
+        MongoDrawingTrack track = drawingTrackService.getTrack(drawing);
 
-        // 3. 드로잉 디테일 정보 찾기
-        List<MongoDrawingDetail> mongoDrawingPositionList = mongoDrawingRepository.findAllByIdIn(drawingDetailIds);
-
-        // 4.
-        List<List<Position>> drawingPositionList = mongoDrawingPositionList.stream()
-                .map(MongoDrawingDetail::getPositionList)
+        // 3. 요청한 허용 오차만큼 간소화
+        List<List<Position>> drawingPositionList = track.getSegments().stream()
+                .map(segment -> segment.getPositionList(tolerance))
                 .toList();
 
 
-        // 5. 루트 정보
-        List<Position> routePositionList = mongoRouteRepository.findById(drawing.getRoute().getId())
-                .orElseThrow(() -> new CustomException(ErrorCode.ROUTE_NOT_FOUND)).getPositionList();
+        // 4. 루트 정보
+        String routeId = drawing.getRoute().getId();
+        List<Position> routePositionList = metricsService.record("mongo", "route.find",
+                        () -> mongoRouteRepository.findById(routeId))
+                .orElseThrow(() -> new CustomException(ErrorCode.ROUTE_NOT_FOUND)).getPositionList(tolerance);
 
         return RestartDrawingResponse.createRestartDrawingResponse(
                 drawing.getTitle(),
@@ -170,73 +172,111 @@ public class DrawingService {
         );
     }
 
-    @Transactional
     public SaveDrawingResponse saveDrawing(int userId, int drawingId, SaveDrawingRequest request) {
-        // 0. 레디스 저장
-        redisService.saveRunning(userId, RunningRequest.createRunningRequest(request.getLat(), request.getLng(), request.getTime()));
+        // 0. 드로잉 여부
+        checkDrawing(drawingId);
 
-        // 1. 파이썬 호출
-        DataSaveDrawingDetailResponse response = processDrawing(userId);
+        // 1. 레디스 저장
+        runningService.finish(userId, RunningRequest.createRunningRequest(request.getLat(), request.getLng(), request.getTime()));
 
-        return saveCommonDrawing(drawingId, response,
-                request.getDrawingImage(), request.getDrawingDetailImage(), request.getStep());
+        // 2. 드로잉 디테일 계산, 이미지 업로드, DB 저장
+        return saveCommonDrawing(drawingId, request.getStep(),
+                () -> processDrawing(userId),
+                () -> getImageUrl(request.getDrawingImage()),
+                () -> getImageUrl(request.getDrawingDetailImage()));
     }
 
-    @Transactional
-    public SaveDrawingResponse saveDrawing(int userId, int drawingId, ReSaveDrawingRequest request) {
+    public SaveDrawingResponse saveDrawing(int userId, int drawingId, SaveDrawingInfoRequest request,
+                                           MultipartFile drawingImage, MultipartFile drawingDetailImage) {
+        // 0. 드로잉 여부
+        checkDrawing(drawingId);
 
-        // 1. 파이썬 호출
-        DataSaveDrawingDetailResponse response = processDrawing(userId, request.getPositions());
+        // 1. 레디스 저장
+        runningService.finish(userId, RunningRequest.createRunningRequest(request.getLat(), request.getLng(), request.getTime()));
 
-        return saveCommonDrawing(drawingId, response,
-                request.getDrawingImage(), request.getDrawingDetailImage(), request.getStep());
+        // 2. 드로잉 디테일 계산, 이미지 업로드, DB 저장
+        return saveCommonDrawing(drawingId, request.getStep(),
+                () -> processDrawing(userId),
+                () -> getImageUrl(drawingImage),
+                () -> getImageUrl(drawingDetailImage));
     }
 
-    private SaveDrawingResponse saveCommonDrawing(int drawingId,
-                                                  DataSaveDrawingDetailResponse response,
-                                                  String drawingImage, String drawingDetailImage,
-                                                  int step) {
-        // 2. 드로잉
-        Drawing drawing = drawingRepository.findById(drawingId)
-                .orElseThrow(() -> new CustomException(ErrorCode.DRAWING_NOT_FOUND));
+    public SaveDrawingResponse saveDrawing(int userId, int drawingId, ReSaveDrawingRequest request) {
+        // 0. 드로잉 여부
+        checkDrawing(drawingId);
+
+        // 1. 드로잉 디테일 계산, 이미지 업로드, DB 저장
+        return saveCommonDrawing(drawingId, request.getStep(),
+                () -> processDrawing(userId, request.getPositions()),
+                () -> getImageUrl(request.getDrawingImage()),
+                () -> getImageUrl(request.getDrawingDetailImage()));
+    }
 
-        // 3. 드로잉 업데이트
-        String drawingImageURL = this.getImageUrl(drawingImage);
-        drawing.changeAccumulatedDrawingImage(drawingImageURL);
-        drawingRepository.save(drawing);
+    public SaveDrawingResponse completeDrawing(int userId, int drawingId, CompleteDrawingRequest request) {
+        // 0. 드로잉 여부
+        checkDrawing(drawingId);
 
-        // 4. 드로잉 디테일 저장
-        String drawingDetailImageURL = this.getImageUrl(drawingDetailImage);
-        DrawingDetail drawingDetail = DrawingDetail
-                .createDrawingDetail(response, drawingDetailImageURL,
-                        drawing, step);
-        drawingDetailRepository.save(drawingDetail);
+        // 1. 레디스 저장
+        runningService.finish(userId, RunningRequest.createRunningRequest(request.getLat(), request.getLng(), request.getTime()));
 
-        return SaveDrawingResponse
-                .createSaveDrawingResponse(drawingImageURL, drawingDetailImageURL);
+        // 2. 드로잉 디테일 계산, 이미지 업로드, DB 저장
+        return completeCommonDrawing(userId, drawingId, request.getTitle(), request.getStep(),
+                () -> processDrawing(userId),
+                () -> getImageUrl(request.getDrawingImage()),
+                () -> getImageUrl(request.getDrawingDetailImage()));
     }
 
-    @Transactional
-    public SaveDrawingResponse completeDrawing(int userId, int drawingId, CompleteDrawingRequest request) {
-        // 0. 레디스 저장
-        redisService.saveRunning(userId, RunningRequest.createRunningRequest(request.getLat(), request.getLng(), request.getTime()));
+    public SaveDrawingResponse completeDrawing(int userId, int drawingId, CompleteDrawingInfoRequest request,
+                                               MultipartFile drawingImage, MultipartFile drawingDetailImage) {
+        // 0. 드로잉 여부
+        checkDrawing(drawingId);
 
-        // 1. 파이썬 호출
-        DataSaveDrawingDetailResponse response = processDrawing(userId);
+        // 1. 레디스 저장
+        runningService.finish(userId, RunningRequest.createRunningRequest(request.getLat(), request.getLng(), request.getTime()));
 
-        return completeCommonDrawing(userId, drawingId, response,
-                request.getTitle(), request.getDrawingImage(), request.getDrawingDetailImage(), request.getStep());
+        // 2. 드로잉 디테일 계산, 이미지 업로드, DB 저장
+        return completeCommonDrawing(userId, drawingId, request.getTitle(), request.getStep(),
+                () -> processDrawing(userId),
+                () -> getImageUrl(drawingImage),
+                () -> getImageUrl(drawingDetailImage));
     }
 
-    @Transactional
     public SaveDrawingResponse completeDrawing(int userId, int drawingId, ReCompleteDrawingRequest request) {
+        // 0. 드로잉 여부
+        checkDrawing(drawingId);
+
+        // 1. 드로잉 디테일 계산, 이미지 업로드, DB 저장
+        return completeCommonDrawing(userId, drawingId, request.getTitle(), request.getStep(),
+                () -> processDrawing(userId, request.getPositions()),
+                () -> getImageUrl(request.getDrawingImage()),
+                () -> getImageUrl(request.getDrawingDetailImage()));
+    }
 
-        // 1. 파이썬 호출
-        DataSaveDrawingDetailResponse response = processDrawing(userId, request.getPositions());
+    // 드로잉 디테일 계산, 이미지 업로드를 동시에 진행한 후 DB 저장
+    private SaveDrawingResponse saveCommonDrawing(int drawingId, int step,
+                                                  Supplier<DataSaveDrawingDetailResponse> detail,
+                                                  Supplier<String> drawingImage,
+                                                  Supplier<String> drawingDetailImage) {
+        CompletableFuture<DataSaveDrawingDetailResponse> responseFuture = drawingSaveExecutor.supply(detail);
+        CompletableFuture<String> drawingImageFuture = drawingSaveExecutor.supply(drawingImage);
+        CompletableFuture<String> drawingDetailImageFuture = drawingSaveExecutor.supply(drawingDetailImage);
+        awaitAll(responseFuture, drawingImageFuture, drawingDetailImageFuture);
+
+        return drawingPersistService.saveDrawingDetail(drawingId, DrawingSaveExecutor.join(responseFuture),
+                DrawingSaveExecutor.join(drawingImageFuture), DrawingSaveExecutor.join(drawingDetailImageFuture), step);
+    }
 
-        // 2. 드로잉
-        return completeCommonDrawing(userId, drawingId, response,
-                request.getTitle(), request.getDrawingImage(), request.getDrawingDetailImage(), request.getStep());
+    private SaveDrawingResponse completeCommonDrawing(int userId, int drawingId, String title, int step,
+                                                      Supplier<DataSaveDrawingDetailResponse> detail,
+                                                      Supplier<String> drawingImage,
+                                                      Supplier<String> drawingDetailImage) {
+        CompletableFuture<DataSaveDrawingDetailResponse> responseFuture = drawingSaveExecutor.supply(detail);
+        CompletableFuture<String> drawingImageFuture = drawingSaveExecutor.supply(drawingImage);
+        CompletableFuture<String> drawingDetailImageFuture = drawingSaveExecutor.supply(drawingDetailImage);
+        awaitAll(responseFuture, drawingImageFuture, drawingDetailImageFuture);
+
+        return drawingPersistService.completeDrawingDetail(userId, drawingId, DrawingSaveExecutor.join(responseFuture), title,
+                DrawingSaveExecutor.join(drawingImageFuture), DrawingSaveExecutor.join(drawingDetailImageFuture), step);
     }
 
     public DrawingDetailsResponse getDrawingDetails(int drawingId, int userId){
@@ -264,71 +304,53 @@ public class DrawingService {
         return response;
     }
 
-    private SaveDrawingResponse completeCommonDrawing(int userId, int drawingId, DataSaveDrawingDetailResponse response,
-                                                     String title, String drawingImage, String drawingDetailImage, int step){
-        // 2. 드로잉
-        Drawing drawing = drawingRepository.findById(drawingId)
-                .orElseThrow(() -> new CustomException(ErrorCode.DRAWING_NOT_FOUND));
-
-        // 3. 드로잉 업데이트
-        String drawingImageURL = this.getImageUrl(drawingImage);
-        drawing.completeDrawing(title, drawingImageURL);
-
-        // 4. 드로잉 디테일 저장
-        String drawingDetailImageURL = this.getImageUrl(drawingDetailImage);
-        DrawingDetail drawingDetail = DrawingDetail
-                .completeDrawingDetail(response, drawingDetailImageURL,
-                        drawing, step);
-        drawingDetailRepository.save(drawingDetail);
-
-        // 5. 마이헬스 저장
-        MyHealth myHealth = myHealthRepository.findByUserId(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MYHEALTH_NOT_FOUND));
-
-        List<Drawing> drawings = drawingRepository.findAllByUserId(userId);
-        int runningCount = drawingDetailRepository.countAllByDrawings(drawings).intValue();
-        myHealth.updateMyHealth(response, step, runningCount);
-        myHealthRepository.save(myHealth);
-
-        return SaveDrawingResponse
-                .createSaveDrawingResponse(drawingImageURL, drawingDetailImageURL);
-    }
-
     private DataSaveDrawingDetailResponse processDrawing(int userId) {
         // 1. redis에서 정보 가져오기
-        List<RunningRequest> redisPositionList = redisService.getRunning(userId);
-        log.info("드로잉 좌표 리스트 : " + redisPositionList);
+        RunningTrack runningTrack = redisService.getRunning(userId);
+        log.info("드로잉 좌표 개수 : " + runningTrack.getSize());
 
-        // 2. python 연결
-        DataSaveDrawingDetailResponse response = pythonApiService.saveDrawingDetail(
-                DataSaveDrawingDetailRequest.createDataSaveDrawingDetailRequset(redisPositionList)
-        );
+        // 2. 시간, 거리, 속력 계산
+        DataSaveDrawingDetailResponse response = drawingStatisticsService.saveDrawingDetail(runningTrack);
 
         log.info("saveDrawing : " + response);
 
         // 3. 레디스 삭제
-        redisService.removeRunning(userId);
+        runningService.clear(userId);
 
         return response;
     }
 
     private DataSaveDrawingDetailResponse processDrawing(int userId, List<RunningRequest> positions) {
 
-        // 2. python 연결
-        DataSaveDrawingDetailResponse response = pythonApiService.saveDrawingDetail(
-                DataSaveDrawingDetailRequest.createDataSaveDrawingDetailRequset(positions)
-        );
+        // 2. 시간, 거리, 속력 계산
+        DataSaveDrawingDetailResponse response = drawingStatisticsService.saveDrawingDetail(positions);
 
         log.info("saveDrawing : " + response);
 
         // 3. 레디스 삭제
-        redisService.removeRunning(userId);
+        runningService.clear(userId);
 
         return response;
     }
 
+    private void checkDrawing(int drawingId) {
+        if (!drawingRepository.existsById(drawingId)) {
+            throw new CustomException(ErrorCode.DRAWING_NOT_FOUND);
+        }
+    }
+
+    // 하나라도 실패하면 나머지 작업이 끝날 때까지 기다린 후 예외 전달
+    private void awaitAll(CompletableFuture<?>... futures) {
+        DrawingSaveExecutor.join(CompletableFuture.allOf(futures));
+    }
+
     private String getImageUrl(String image){
         String fileName = awsService.uploadDrawingFile(image);
         return awsService.getImageUrl(fileName);
     }
+
+    private String getImageUrl(MultipartFile image){
+        String fileName = awsService.uploadDrawingFile(image);
+        return awsService.getImageUrl(fileName);
+    }
 }
@@ -0,0 +1,83 @@
+package com.vincentrungogh.domain.drawing.service;
+
+import com.vincentrungogh.domain.drawing.entity.MongoDrawingDetail;
+import com.vincentrungogh.domain.drawing.repository.MongoDrawingRepository;
+import com.vincentrungogh.domain.drawing.service.dto.request.DataSaveDrawingDetailRequest;
+import com.vincentrungogh.domain.drawing.service.dto.response.DataSaveDrawingDetailResponse;
+import com.vincentrungogh.domain.route.service.dto.common.Geometry;
+import com.vincentrungogh.domain.running.service.dto.common.RunningTrack;
+import com.vincentrungogh.domain.running.service.dto.request.RunningRequest;
+import com.vincentrungogh.global.exception.CustomException;
+import com.vincentrungogh.global.exception.ErrorCode;
+import com.vincentrungogh.global.service.PythonApiService;
+import com.vincentrungogh.global.util.TrackStatistics;
+import com.vincentrungogh.global.util.TrackStatisticsCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DrawingStatisticsService {
+
+    private final MongoDrawingRepository mongoDrawingRepository;
+    private final PythonApiService pythonApiService;
+
+    // 자바 계산(몽고 저장) 실패 시 파이썬 서버로 대체할지 여부
+    @Value("${drawing.statistics.python-fallback:false}")
+    private boolean pythonFallback;
+
+    public DataSaveDrawingDetailResponse saveDrawingDetail(List<RunningRequest> positions) {
+        if (positions == null) {
+            throw new CustomException(ErrorCode.FAILED_SAVE_DRAWINGDETAIL);
+        }
+        return saveDrawingDetail(RunningTrack.createRunningTrack(positions));
+    }
+
+    public DataSaveDrawingDetailResponse saveDrawingDetail(RunningTrack track) {
+        if (track.isEmpty()) {
+            throw new CustomException(ErrorCode.FAILED_SAVE_DRAWINGDETAIL);
+        }
+
+        try {
+            return calculateAndSave(track);
+        } catch (DataAccessException e) {
+            if (!pythonFallback) {
+                throw e;
+            }
+            log.warn("드로잉 디테일 저장 실패, 파이썬 서버로 대체합니다. : " + e.getMessage());
+            return pythonApiService.saveDrawingDetail(
+                    DataSaveDrawingDetailRequest.createDataSaveDrawingDetailRequset(track.toRunningRequestList())
+            );
+        }
+    }
+
+    private DataSaveDrawingDetailResponse calculateAndSave(RunningTrack track) {
+        // 1. 시간, 거리, 속력 계산
+        TrackStatistics statistics = TrackStatisticsCalculator.calculate(
+                track.getLats(), track.getLngs(), track.getSeconds(), track.getSize());
+
+        // 총 시간이 0이면 저장 실패
+        if (statistics.getTime() == 0) {
+            throw new CustomException(ErrorCode.FAILED_SAVE_DRAWINGDETAIL);
+        }
+
+        // 2. 몽고 저장
+        MongoDrawingDetail mongoDrawingDetail = mongoDrawingRepository.save(
+                MongoDrawingDetail.createMongoDrawingDetail(
+                        Geometry.createGeometry(track.getLats(), track.getLngs(), track.getSize()))
+        );
+
+        return new DataSaveDrawingDetailResponse(
+                mongoDrawingDetail.getId(),
+                statistics.getDistance(),
+                statistics.getTime(),
+                statistics.getSpeed()
+        );
+    }
+}
@@ -0,0 +1,153 @@
+package com.vincentrungogh.domain.drawing.service;
+
+import com.vincentrungogh.domain.drawing.entity.Drawing;
+import com.vincentrungogh.domain.drawing.entity.MongoDrawingDetail;
+import com.vincentrungogh.domain.drawing.entity.MongoDrawingTrack;
+import com.vincentrungogh.domain.drawing.entity.MongoTrackSegment;
+import com.vincentrungogh.domain.drawing.event.DrawingDetailSavedEvent;
+import com.vincentrungogh.domain.drawing.repository.DrawingDetailRepository;
+import com.vincentrungogh.domain.drawing.repository.DrawingRepository;
+import com.vincentrungogh.domain.drawing.repository.MongoDrawingRepository;
+import com.vincentrungogh.domain.drawing.repository.MongoDrawingTrackRepository;
+import com.vincentrungogh.global.exception.CustomException;
+import com.vincentrungogh.global.exception.ErrorCode;
+import com.vincentrungogh.global.service.MetricsService;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 드로잉별 트랙 문서(drawing_track) 관리
+ * - 드로잉 디테일 저장이 커밋되면 드로잉 저장 스레드 풀에서 segments 끝에 구간을 $push 한다. (같은 드로잉은 저장 순서대로)
+ * - 재시작, 게시글 생성은 드로잉 아이디로 문서 하나만 읽는다. (MySQL 디테일 아이디 조회 + $in 조회 없음)
+ * - 문서가 없으면(도입 이전 드로잉) 기존 방식으로 한 번 만들어 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DrawingTrackService {
+
+    private static final long APPEND_WAIT_SECONDS = 5;
+
+    private final MongoDrawingTrackRepository mongoDrawingTrackRepository;
+    private final MongoDrawingRepository mongoDrawingRepository;
+    private final DrawingDetailRepository drawingDetailRepository;
+    private final DrawingRepository drawingRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MetricsService metricsService;
+    private final DrawingSaveExecutor drawingSaveExecutor;
+
+    // 드로잉별 진행 중인 구간 추가 작업 (앞 작업이 끝난 뒤 이어서 실행)
+    private final Map<Integer, CompletableFuture<Void>> pendingAppends = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDrawingDetailSaved(DrawingDetailSavedEvent event) {
+        int drawingId = event.getDrawingId();
+        CompletableFuture<Void> appended = pendingAppends.compute(drawingId, (key, previous) ->
+                (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous)
+                        .thenRunAsync(() -> appendOrDelete(event), drawingSaveExecutor::execute));
+        appended.whenComplete((result, e) -> pendingAppends.remove(drawingId, appended));
+    }
+
+    public MongoDrawingTrack getTrack(Drawing drawing) {
+        awaitPendingAppend(drawing.getId());
+        return metricsService.record("mongo", "drawing-track.find",
+                        () -> mongoDrawingTrackRepository.findById(drawing.getId()))
+                .orElseGet(() -> rebuild(drawing));
+    }
+
+    private void appendOrDelete(DrawingDetailSavedEvent event) {
+        try {
+            append(event.getDrawingId(), event.getDrawingDetailId());
+        } catch (Exception e) {
+            // 구간이 빠진 트랙이 남지 않도록 지우고 다음 조회 때 다시 만든다
+            log.warn("드로잉 트랙 추가 실패 : " + event.getDrawingId(), e);
+            mongoDrawingTrackRepository.deleteById(event.getDrawingId());
+        }
+    }
+
+    // 방금 저장한 디테일이 트랙에 들어간 뒤에 조회하도록 잠깐 기다린다
+    private void awaitPendingAppend(int drawingId) {
+        CompletableFuture<Void> pending = pendingAppends.get(drawingId);
+        if (pending == null) {
+            return;
+        }
+        try {
+            pending.get(APPEND_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("드로잉 트랙 추가 대기 실패 : " + drawingId, e);
+        }
+    }
+
+    private void append(int drawingId, String drawingDetailId) {
+        MongoDrawingDetail mongoDrawingDetail = mongoDrawingRepository.findById(drawingDetailId)
+                .orElseThrow(() -> new CustomException(ErrorCode.DRAWINGDETAIL_NOT_FOUND));
+        MongoTrackSegment segment = MongoTrackSegment.createMongoTrackSegment(drawingDetailId, mongoDrawingDetail);
+
+        if (push(drawingId, segment)) {
+            return;
+        }
+
+        // 문서가 없으면 이번 구간까지 포함해서 새로 만든다
+        if (!mongoDrawingTrackRepository.existsById(drawingId)) {
+            Drawing drawing = drawingRepository.findById(drawingId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.DRAWING_NOT_FOUND));
+            rebuild(drawing);
+        }
+
+        // 그 사이 다른 요청이 이번 구간 없이 문서를 만들었을 수 있으므로 한 번 더 추가 (이미 있으면 그대로)
+        push(drawingId, segment);
+    }
+
+    // 같은 구간이 두 번 들어가지 않도록 없는 경우에만 추가, 문서가 없거나 이미 있으면 false
+    private boolean push(int drawingId, MongoTrackSegment segment) {
+        Query query = new Query(Criteria.where("_id").is(drawingId)
+                .and("segments.drawingDetailId").ne(segment.getDrawingDetailId()));
+        UpdateResult result = mongoTemplate.updateFirst(query, new Update().push("segments", segment), MongoDrawingTrack.class);
+        return result.getMatchedCount() > 0;
+    }
+
+    // 디테일 저장 순서대로 트랙 생성
+    private MongoDrawingTrack rebuild(Drawing drawing) {
+        List<String> drawingDetailIds = drawingDetailRepository.findAllIdsByDrawing(drawing);
+        Map<String, MongoDrawingDetail> mongoDrawingDetails = mongoDrawingRepository.findAllByIdIn(drawingDetailIds).stream()
+                .collect(Collectors.toMap(MongoDrawingDetail::getId, Function.identity()));
+
+        List<MongoTrackSegment> segments = new ArrayList<>();
+        for (String drawingDetailId : drawingDetailIds) {
+            MongoDrawingDetail mongoDrawingDetail = mongoDrawingDetails.get(drawingDetailId);
+            if (mongoDrawingDetail != null) {
+                segments.add(MongoTrackSegment.createMongoTrackSegment(drawingDetailId, mongoDrawingDetail));
+            }
+        }
+
+        MongoDrawingTrack track = MongoDrawingTrack.createMongoDrawingTrack(drawing.getId(), segments);
+        try {
+            mongoTemplate.insert(track);
+        } catch (DuplicateKeyException e) {
+            // 다른 요청이 먼저 만든 경우
+            log.debug("드로잉 트랙이 이미 있습니다. : " + drawing.getId());
+        }
+        return track;
+    }
+}
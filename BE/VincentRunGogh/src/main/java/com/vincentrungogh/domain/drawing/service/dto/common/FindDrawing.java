@@ -2,6 +2,7 @@ package com.vincentrungogh.domain.drawing.service.dto.common;
 
 import com.vincentrungogh.domain.drawing.entity.Drawing;
 import com.vincentrungogh.domain.route.entity.Route;
+import com.vincentrungogh.global.util.ImageVariants;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +18,8 @@ public class FindDrawing {
     private String title;
     private String artImage;
     private String drawingImage;
+    private String artImageThumbnail;
+    private String drawingImageThumbnail;
     private LocalDateTime updated;
 
     @Builder
@@ -25,6 +28,8 @@ public class FindDrawing {
         this.title = title;
         this.artImage = artImage;
         this.drawingImage = drawingImage;
+        this.artImageThumbnail = ImageVariants.thumbnailUrl(artImage);
+        this.drawingImageThumbnail = ImageVariants.thumbnailUrl(drawingImage);
         this.updated = updated;
     }
 
@@ -0,0 +1,22 @@
+package com.vincentrungogh.domain.drawing.service.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 이미지는 multipart 파일로 따로 받는 드로잉 저장 요청
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SaveDrawingInfoRequest {
+
+    @NotNull
+    private Integer step;
+    @NotNull
+    private Double lat;
+    @NotNull
+    private Double lng;
+    @NotBlank
+    private String time;
+}
@@ -1,6 +1,5 @@
 package com.vincentrungogh.domain.myhealth.entity;
 
-import com.vincentrungogh.domain.drawing.service.dto.response.DataSaveDrawingDetailResponse;
 import com.vincentrungogh.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -35,16 +34,21 @@ public class MyHealth {
     @Column(name = "total_step")
     private int totalStep;
 
+    // 평균 속력에 반영된 운동 횟수 (컬럼 추가 전부터 있던 행은 백필 전까지 null)
+    @Column(name = "run_count")
+    private Integer runCount;
+
     @OneToOne
     @JoinColumn(name = "user_id")
     private User user;
 
     @Builder
-    private MyHealth(int totalTime, int totalDistance, double averageSpeed, int totalStep, User user) {
+    private MyHealth(int totalTime, int totalDistance, double averageSpeed, int totalStep, Integer runCount, User user) {
         this.totalTime = totalTime;
         this.totalDistance = totalDistance;
         this.averageSpeed = averageSpeed;
         this.totalStep = totalStep;
+        this.runCount = runCount;
         this.user = user;
     }
 
@@ -54,15 +58,8 @@ public class MyHealth {
                 .totalDistance(0)
                 .averageSpeed(0)
                 .totalStep(0)
+                .runCount(0)
                 .user(user)
                 .build();
     }
-
-    // 총 운동 시간/거리, 평균 속력, 총 걸을 수 업데이트
-    public void updateMyHealth(DataSaveDrawingDetailResponse data, int totalStep, int count){
-        this.totalTime += data.getTime();
-        this.totalDistance += data.getDistance();
-        this.averageSpeed = Math.round(((this.averageSpeed *  count + data.getSpeed()) / (count + 1)) * 100.0) / 100.0;
-        this.totalStep += totalStep;
-    }
 }
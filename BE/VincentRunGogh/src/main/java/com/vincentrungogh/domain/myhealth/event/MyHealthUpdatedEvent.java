@@ -0,0 +1,16 @@
+package com.vincentrungogh.domain.myhealth.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 마이헬스(평균 속력 등)가 바뀌었을 때 발행하는 이벤트
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MyHealthUpdatedEvent {
+    private final int userId;
+
+    public static MyHealthUpdatedEvent createMyHealthUpdatedEvent(int userId) {
+        return new MyHealthUpdatedEvent(userId);
+    }
+}
@@ -4,6 +4,9 @@ import com.nimbusds.jose.util.health.HealthStatus;
 import com.vincentrungogh.domain.myhealth.entity.MyHealth;
 import com.vincentrungogh.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +15,24 @@ import java.util.Optional;
 public interface MyHealthRepository extends JpaRepository<MyHealth, Integer> {
     Optional<MyHealth> findByUser(User user);
     Optional<MyHealth> findByUserId(int userId);
+
+    // 한 번의 UPDATE로 누적 (MySQL은 SET을 왼쪽부터 적용하므로 평균 속력은 증가 전 runCount로 계산된다)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MyHealth m SET m.totalTime = m.totalTime + :time, " +
+            "m.totalDistance = m.totalDistance + :distance, " +
+            "m.totalStep = m.totalStep + :step, " +
+            "m.averageSpeed = ROUND((m.averageSpeed * COALESCE(m.runCount, 0) + :speed) / (COALESCE(m.runCount, 0) + 1), 2), " +
+            "m.runCount = COALESCE(m.runCount, 0) + 1 " +
+            "WHERE m.user.id = :userId")
+    int accumulate(@Param("userId") int userId, @Param("time") int time, @Param("distance") int distance,
+                   @Param("speed") double speed, @Param("step") int step);
+
+    // run_count 컬럼 추가 이전 데이터: accumulate와 같이 완료된 드로잉(완료 디테일) 수로 채움
+    // 채운 행은 null이 아니게 되므로 다시 실행해도 이미 채운 행(운동 횟수가 0인 유저 포함)은 건드리지 않는다
+    @Modifying
+    @Query(value = "UPDATE my_health m SET m.run_count = " +
+            "(SELECT COUNT(*) FROM drawings_detail dd JOIN drawings d ON dd.drawing_id = d.id " +
+            "WHERE d.user_id = m.user_id AND dd.is_completed = true) " +
+            "WHERE m.run_count IS NULL", nativeQuery = true)
+    int backfillRunCount();
 }
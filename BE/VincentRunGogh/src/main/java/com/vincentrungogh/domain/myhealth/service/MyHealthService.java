@@ -1,9 +1,10 @@
 package com.vincentrungogh.domain.myhealth.service;
 
+import com.vincentrungogh.domain.drawing.entity.DailyActivityRow;
 import com.vincentrungogh.domain.drawing.entity.DrawingDetailToday;
 import com.vincentrungogh.domain.drawing.entity.EachMonthRouteFreeCount;
 import com.vincentrungogh.domain.drawing.entity.EachMonthWalkDistanceTime;
-import com.vincentrungogh.domain.drawing.repository.DrawingDetailRepository;
+import com.vincentrungogh.domain.drawing.repository.DrawingDailyActivityRepository;
 import com.vincentrungogh.domain.drawing.repository.DrawingRepository;
 import com.vincentrungogh.domain.myhealth.entity.MyHealth;
 import com.vincentrungogh.domain.myhealth.repository.MyHealthRepository;
@@ -15,9 +16,14 @@ import com.vincentrungogh.global.exception.CustomException;
 import com.vincentrungogh.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -29,7 +35,21 @@ public class MyHealthService {
     private final MyHealthRepository myHealthRepository;
     private final UserRepository userRepository;
     private final DrawingRepository drawingRepository;
-    private final DrawingDetailRepository drawingDetailRepository;
+    private final DrawingDailyActivityRepository drawingDailyActivityRepository;
+
+    @Value("${myhealth.run-count.backfill:false}")
+    private boolean backfillRunCount;
+
+    // run_count 컬럼 추가 전 마이헬스의 운동 횟수 채우기
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRunCount() {
+        if (!backfillRunCount) {
+            return;
+        }
+        int updated = myHealthRepository.backfillRunCount();
+        log.info("마이헬스 운동 횟수 백필: {}건", updated);
+    }
 
     // 유저 생성 시 마이헬스 조회
     public MyHealth getMyHealth(User user) {
@@ -59,7 +79,7 @@ public class MyHealthService {
         );
 
         // 2-1. 할당된 유저 엔티티, 받은 연도, 모든 달을 기준으로 QueryDSL
-        List<EachMonthWalkDistanceTime> eachMonthWalkDistanceTimes = drawingDetailRepository.findWalkDistanceTimeByYearEachMonth(user, year);
+        List<EachMonthWalkDistanceTime> eachMonthWalkDistanceTimes = findWalkDistanceTimeByYearEachMonth(user.getId(), year);
         for(int i = 0; i < eachMonthWalkDistanceTimes.size(); i++) {
             /** 존재하는 달만 총계산과 배열에 꽂기 */
             EachMonthWalkDistanceTime eachMonthWalkDistanceTime = eachMonthWalkDistanceTimes.get(i);
@@ -125,7 +145,7 @@ public class MyHealthService {
         );
 
         // 2. 할당된 유저 엔티티로 QueryDSL
-        DrawingDetailToday drawingDetailToday = drawingDetailRepository.findTodayByUser(user);
+        DrawingDetailToday drawingDetailToday = findTodayByUser(user.getId());
 
         // 3. QueryDSL을 받기 위한 클래스에서 내가 보내야할 Response DTO로 변환하는 작업
         todayRuntime = drawingDetailToday.getTodayRuntime();
@@ -139,4 +159,56 @@ public class MyHealthService {
         // 4. TodayMyhealthResponse 객체 리턴
         return TodayMyhealthResponse.createTodayMyhealthResponse(todayRuntime, todayDistance, todayAvgPace, todayStep);
     }
+
+    // 일별 누적 테이블에서 연도의 월별 걸음 수, 거리, 시간 합계 (제목이 없는 진행 중 자유 드로잉 제외)
+    private List<EachMonthWalkDistanceTime> findWalkDistanceTimeByYearEachMonth(int userId, int year) {
+        int[] steps = new int[12];
+        int[] distances = new int[12];
+        int[] times = new int[12];
+        boolean[] exists = new boolean[12];
+
+        List<DailyActivityRow> rows = drawingDailyActivityRepository.findDailyActivities(userId,
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+        for (DailyActivityRow row : rows) {
+            if (row.getDrawingTitle() == null) {
+                continue;
+            }
+            int index = row.getActivityDate().getMonthValue() - 1;
+            steps[index] += row.getTotalStep();
+            distances[index] += row.getTotalDistance();
+            times[index] += row.getTotalTime();
+            exists[index] = true;
+        }
+
+        List<EachMonthWalkDistanceTime> result = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            if (exists[i]) {
+                result.add(new EachMonthWalkDistanceTime(String.format("%04d-%02d", year, i + 1), steps[i], distances[i], times[i]));
+            }
+        }
+        return result;
+    }
+
+    // 일별 누적 테이블에서 오늘의 시간, 거리, 평균 속력, 걸음 수 (제목이 없는 진행 중 자유 드로잉 제외)
+    private DrawingDetailToday findTodayByUser(int userId) {
+        LocalDate today = LocalDate.now();
+        int time = 0;
+        int distance = 0;
+        int step = 0;
+        double speedSum = 0.0;
+        int count = 0;
+
+        for (DailyActivityRow row : drawingDailyActivityRepository.findDailyActivities(userId, today, today)) {
+            if (row.getDrawingTitle() == null) {
+                continue;
+            }
+            time += row.getTotalTime();
+            distance += row.getTotalDistance();
+            step += row.getTotalStep();
+            speedSum += row.getSpeedSum();
+            count += row.getDetailCount();
+        }
+
+        return new DrawingDetailToday(time, distance, count == 0 ? 0.0 : speedSum / count, step);
+    }
 }
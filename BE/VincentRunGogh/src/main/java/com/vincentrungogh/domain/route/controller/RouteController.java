@@ -1,5 +1,6 @@
 package com.vincentrungogh.domain.route.controller;
 
+import com.vincentrungogh.domain.route.service.dto.common.RouteSearchCondition;
 import com.vincentrungogh.domain.route.service.facade.RouteFacade;
 import com.vincentrungogh.domain.route.service.dto.request.ArtRouteRequestDto;
 import com.vincentrungogh.domain.route.service.dto.request.SaveRouteRequestDto;
@@ -46,10 +47,16 @@ public class RouteController {
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam String type,
             @RequestParam Double lat,
-            @RequestParam Double lng) {
-        log.info("루트 조회: "+type+" "+lat+" "+lng);
+            @RequestParam Double lng,
+            @RequestParam(required = false) Double radius,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
+        log.info("루트 조회: "+type+" "+lat+" "+lng+" "+radius);
 
-        FindRouteResponseDto responseDto = routeFacade.getRoute(userPrincipal, type, lat, lng);
+        // 반경, 크기를 보내지 않으면 내 루트는 전체 조회 (주변 루트 검색은 기본 반경, 크기 사용)
+        RouteSearchCondition condition = RouteSearchCondition.createRouteSearchCondition(lat, lng,
+                radius, Math.max(page, 0), size == null ? null : Math.min(Math.max(size, 1), 100));
+        FindRouteResponseDto responseDto = routeFacade.getRoute(userPrincipal, type, condition);
 
         return ResponseEntity.status(HttpStatus.OK).body(ResultDto.res(HttpStatus.OK.value(), "루트 조회에 성공했습니다.", responseDto));
     }
@@ -1,10 +1,13 @@
 package com.vincentrungogh.domain.route.entity;
 
+import com.vincentrungogh.domain.route.service.dto.common.Geometry;
 import com.vincentrungogh.domain.route.service.dto.common.Position;
 import jakarta.persistence.Column;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import com.vincentrungogh.global.util.TrackSimplifier;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -19,6 +22,44 @@ public class MongoRoute {
     @Id
     private String id;
 
+    // 압축 좌표 (GeometryCodec, BSON binary)
+    @Field(name = "geometry")
+    private Geometry geometry;
+
+    // 파이썬 서버가 저장했거나 마이그레이션 전 문서의 좌표 ({lat, lng} 배열)
     @Field(name = "positionList") //column 대신 mongodb에서 사용
     private List<Position> positionList;
+
+    // 좌표별 간소화 단계 (TrackSimplifier, 저장 시 계산)
+    @Field(name = "lodLevels")
+    private byte[] lodLevels;
+
+    @Builder
+    private MongoRoute(Geometry geometry, byte[] lodLevels) {
+        this.geometry = geometry;
+        this.lodLevels = lodLevels;
+    }
+
+    public static MongoRoute createMongoRoute(Geometry geometry) {
+        return MongoRoute.builder()
+                .geometry(geometry)
+                .lodLevels(TrackSimplifier.computeLevels(geometry))
+                .build();
+    }
+
+    public Geometry getGeometry() {
+        if (geometry == null) {
+            return Geometry.createGeometry(positionList == null ? List.of() : positionList);
+        }
+        return geometry;
+    }
+
+    public List<Position> getPositionList() {
+        return getGeometry().toPositionList();
+    }
+
+    // 허용 오차(미터)만큼 간소화한 좌표 (0이면 원본)
+    public List<Position> getPositionList(double tolerance) {
+        return TrackSimplifier.simplify(getGeometry(), lodLevels, tolerance).toPositionList();
+    }
 }
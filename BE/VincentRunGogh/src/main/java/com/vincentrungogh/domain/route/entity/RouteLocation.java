@@ -0,0 +1,16 @@
+package com.vincentrungogh.domain.route.entity;
+
+// 루트 공간 인덱스를 만들기 위해 QueryDSL로 받는 클래스
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class RouteLocation {
+    private String routeId;
+    private int userId;
+    private double centerLat;
+    private double centerLng;
+}
@@ -0,0 +1,19 @@
+package com.vincentrungogh.domain.route.entity;
+
+// 루트 조회 캐시에 저장하는 루트의 변하지 않는 정보 (QueryDSL 프로젝션)
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class RouteSummary {
+    private String routeId;
+    private String title;
+    private String artImage;
+    private String accumulatedDrawingImage;
+    private int distance;
+    private Double centerLat;
+    private Double centerLng;
+}
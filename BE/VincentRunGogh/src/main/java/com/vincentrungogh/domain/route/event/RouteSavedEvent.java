@@ -0,0 +1,21 @@
+package com.vincentrungogh.domain.route.event;
+
+import com.vincentrungogh.domain.route.entity.Route;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 루트가 저장되었을 때 발행하는 이벤트
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RouteSavedEvent {
+    private final String routeId;
+    private final int userId;
+    private final Double centerLat;
+    private final Double centerLng;
+
+    public static RouteSavedEvent createRouteSavedEvent(Route route) {
+        return new RouteSavedEvent(route.getId(), route.getUser().getId(),
+                route.getCenterLat(), route.getCenterLng());
+    }
+}
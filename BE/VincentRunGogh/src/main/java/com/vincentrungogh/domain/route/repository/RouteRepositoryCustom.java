@@ -0,0 +1,13 @@
+package com.vincentrungogh.domain.route.repository;
+
+import com.vincentrungogh.domain.route.entity.RouteLocation;
+import com.vincentrungogh.domain.route.entity.RouteSummary;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RouteRepositoryCustom {
+    List<RouteLocation> findAllRouteLocations();
+
+    List<RouteSummary> findRouteSummaries(Collection<String> routeIds);
+}
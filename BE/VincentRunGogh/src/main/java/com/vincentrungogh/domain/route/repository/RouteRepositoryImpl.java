@@ -0,0 +1,58 @@
+package com.vincentrungogh.domain.route.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.vincentrungogh.domain.route.entity.RouteLocation;
+import com.vincentrungogh.domain.route.entity.RouteSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.vincentrungogh.domain.route.entity.QRoute.route;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RouteRepositoryImpl implements RouteRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<RouteLocation> findAllRouteLocations() {
+        // 인덱스에 필요한 컬럼만 조회 (엔티티 조회 x)
+        return queryFactory
+                .select(Projections.constructor(RouteLocation.class,
+                        route.id,
+                        route.user.id,
+                        route.centerLat,
+                        route.centerLng
+                ))
+                .from(route)
+                .where(route.title.isNotNull()
+                        .and(route.centerLat.isNotNull())
+                        .and(route.centerLng.isNotNull()))
+                .fetch();
+    }
+
+    @Override
+    public List<RouteSummary> findRouteSummaries(Collection<String> routeIds) {
+        // 루트 목록 조회에 필요한 컬럼만 조회
+        return queryFactory
+                .select(Projections.constructor(RouteSummary.class,
+                        route.id,
+                        route.title,
+                        route.artImage,
+                        route.accumulatedDrawingImage,
+                        route.distance,
+                        route.centerLat,
+                        route.centerLng
+                ))
+                .from(route)
+                .where(route.id.in(routeIds)
+                        .and(route.title.isNotNull()))
+                .fetch();
+    }
+}
@@ -2,9 +2,9 @@ package com.vincentrungogh.domain.route.service;
 
 import com.vincentrungogh.domain.route.entity.RouteType;
 import com.vincentrungogh.domain.route.service.dto.common.FindRoute;
+import com.vincentrungogh.domain.route.service.dto.common.RouteSearchCondition;
 import com.vincentrungogh.domain.route.service.dto.response.FindRouteResponseDto;
 import com.vincentrungogh.domain.route.service.strategy.RouteStrategy;
-import com.vincentrungogh.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,12 +17,12 @@ public class RouteContext {
     //autowired시 key는 클래스 이름을 카멜 케이스로 함
     private final Map<String, RouteStrategy> getRouteStrategyMap;
 
-    public FindRouteResponseDto findRoute(User user, RouteType routeType, Double lat, Double lng, Double averageSpeed) {
+    public FindRouteResponseDto findRoute(int userId, RouteType routeType, RouteSearchCondition condition, Double averageSpeed) {
         //타입 조회
         RouteStrategy routeStrategy = getRouteStrategyMap.get(routeType.getTypeName());
         
         //반환
-        return routeStrategy.findRoute(user, lat, lng, averageSpeed);
+        return routeStrategy.findRoute(userId, condition, averageSpeed);
 
     }
 }
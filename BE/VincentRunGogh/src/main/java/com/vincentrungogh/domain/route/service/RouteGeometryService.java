@@ -0,0 +1,103 @@
+package com.vincentrungogh.domain.route.service;
+
+import com.vincentrungogh.domain.drawing.entity.MongoDrawingTrack;
+import com.vincentrungogh.domain.drawing.entity.MongoTrackSegment;
+import com.vincentrungogh.domain.route.entity.MongoRoute;
+import com.vincentrungogh.domain.route.repository.MongoRouteRepository;
+import com.vincentrungogh.domain.route.service.dto.common.Geometry;
+import com.vincentrungogh.domain.route.service.dto.common.Position;
+import com.vincentrungogh.domain.route.service.dto.response.DataSaveRouteResponseDto;
+import com.vincentrungogh.global.exception.CustomException;
+import com.vincentrungogh.global.exception.ErrorCode;
+import com.vincentrungogh.global.service.MetricsService;
+import com.vincentrungogh.global.util.TrackStatisticsCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 루트 좌표의 중심과 총 거리를 계산하고 몽고 route 문서를 저장한다. (파이썬 CalculateCenterAndDistance.py 대체)
+ * - 중심: 위도, 경도 각각의 산술 평균
+ * - 거리: 이웃한 좌표 사이 하버사인 거리(미터, 소수점 버림)의 합
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteGeometryService {
+
+    private final MongoRouteRepository mongoRouteRepository;
+    private final MetricsService metricsService;
+
+    // 루트 그리기에서 만든 좌표 (레디스)
+    public DataSaveRouteResponseDto saveRoute(List<Position> positionList) {
+        if (positionList == null) {
+            throw new CustomException(ErrorCode.FAILED_SAVE_ROOTING);
+        }
+        return saveRoute(Geometry.createGeometry(positionList));
+    }
+
+    // 드로잉 트랙의 구간들을 저장 순서대로 이어 붙인 좌표 (게시글 -> 루트)
+    public DataSaveRouteResponseDto saveRoute(MongoDrawingTrack track) {
+        List<MongoTrackSegment> segments = track.getSegments();
+        int size = 0;
+        for (MongoTrackSegment segment : segments) {
+            size += segment.getGeometry().getSize();
+        }
+
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        int offset = 0;
+        for (MongoTrackSegment segment : segments) {
+            Geometry geometry = segment.getGeometry();
+            System.arraycopy(geometry.getLats(), 0, lats, offset, geometry.getSize());
+            System.arraycopy(geometry.getLngs(), 0, lngs, offset, geometry.getSize());
+            offset += geometry.getSize();
+        }
+        return saveRoute(Geometry.createGeometry(lats, lngs, size));
+    }
+
+    private DataSaveRouteResponseDto saveRoute(Geometry geometry) {
+        if (geometry.isEmpty()) {
+            throw new CustomException(ErrorCode.FAILED_SAVE_ROOTING);
+        }
+
+        try {
+            return calculateAndSave(geometry);
+        } catch (DataAccessException e) {
+            log.error("루트 저장 실패 : " + e.getMessage());
+            throw new CustomException(ErrorCode.FAILED_SAVE_ROOTING);
+        }
+    }
+
+    private DataSaveRouteResponseDto calculateAndSave(Geometry geometry) {
+        double[] lats = geometry.getLats();
+        double[] lngs = geometry.getLngs();
+        int size = geometry.getSize();
+
+        // 1. 중심, 거리 계산 (한 번 순회)
+        double latSum = 0;
+        double lngSum = 0;
+        int distance = 0;
+        for (int i = 0; i < size; i++) {
+            latSum += lats[i];
+            lngSum += lngs[i];
+            if (i > 0) {
+                distance += TrackStatisticsCalculator.haversine(lats[i - 1], lngs[i - 1], lats[i], lngs[i]);
+            }
+        }
+
+        // 2. 몽고 저장
+        MongoRoute mongoRoute = metricsService.record("mongo", "route.save",
+                () -> mongoRouteRepository.save(MongoRoute.createMongoRoute(geometry)));
+
+        return new DataSaveRouteResponseDto(
+                mongoRoute.getId(),
+                latSum / size,
+                lngSum / size,
+                distance
+        );
+    }
+}
@@ -3,11 +3,13 @@ package com.vincentrungogh.domain.route.service;
 import com.vincentrungogh.domain.myhealth.entity.MyHealth;
 import com.vincentrungogh.domain.myhealth.repository.MyHealthRepository;
 import com.vincentrungogh.domain.route.entity.Route;
+import com.vincentrungogh.domain.route.event.RouteSavedEvent;
 import com.vincentrungogh.domain.route.repository.RouteRepository;
 import com.vincentrungogh.domain.route.service.dto.response.DataSaveRouteResponseDto;
 import com.vincentrungogh.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -15,17 +17,20 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RouteService {
     private final RouteRepository routeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     //루트를 mysql에 저장
     public Route saveRoute(User user, String title, String artImage, DataSaveRouteResponseDto responseDto) {
         Route route = Route.createRoute(user, title, artImage, responseDto);
         routeRepository.save(route);
+        eventPublisher.publishEvent(RouteSavedEvent.createRouteSavedEvent(route));
         return route;
     }
 
     public Route saveRoute(User user, String title, String artImage, String drawingImage, DataSaveRouteResponseDto responseDto) {
         Route route = Route.createaDrawingToRoute(user, title, artImage, drawingImage, responseDto);
         routeRepository.save(route);
+        eventPublisher.publishEvent(RouteSavedEvent.createRouteSavedEvent(route));
         return route;
     }
 
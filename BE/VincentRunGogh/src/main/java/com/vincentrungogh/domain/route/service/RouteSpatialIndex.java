@@ -0,0 +1,181 @@
+package com.vincentrungogh.domain.route.service;
+
+import com.vincentrungogh.domain.route.entity.RouteLocation;
+import com.vincentrungogh.domain.route.event.RouteSavedEvent;
+import com.vincentrungogh.domain.route.repository.RouteRepository;
+import com.vincentrungogh.global.util.DistanceCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntPredicate;
+
+/**
+ * 루트 중심 좌표를 격자(CELL_SIZE 도 단위)로 나눈 메모리 공간 인덱스
+ * 반경 안에 걸치는 격자만 확인하기 때문에 전체 루트 수와 상관없이 주변 루트만 계산한다.
+ * - 서버 시작 시 전체 로드, 루트 저장 시(커밋 이후) 추가
+ * - 다른 서버에서 저장된 루트를 반영하기 위해 주기적으로 다시 로드
+ *   (다시 로드하는 동안 저장된 루트는 모아 두었다가 교체 직전에 새 인덱스에도 넣는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteSpatialIndex {
+
+    private static final double CELL_SIZE = 0.05;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final RouteRepository routeRepository;
+
+    private volatile Map<Long, List<RouteLocation>> cells = new ConcurrentHashMap<>();
+
+    // 유저별 루트 (반경 없이 내 루트 전체 조회)
+    private volatile Map<Integer, List<RouteLocation>> owners = new ConcurrentHashMap<>();
+
+    // 루트 추가와 인덱스 교체를 서로 배타적으로 실행하기 위한 락
+    private final Object lock = new Object();
+
+    // 다시 로드하는 중에 저장된 루트 (다시 로드 중이 아니면 null)
+    private List<RouteLocation> pendingLocations;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${route.index.refresh-interval:300000}",
+            initialDelayString = "${route.index.refresh-interval:300000}")
+    public synchronized void reload() {
+        synchronized (lock) {
+            pendingLocations = new ArrayList<>();
+        }
+
+        Map<Long, List<RouteLocation>> newCells = new ConcurrentHashMap<>();
+        Map<Integer, List<RouteLocation>> newOwners = new ConcurrentHashMap<>();
+        List<RouteLocation> locations;
+        try {
+            locations = routeRepository.findAllRouteLocations();
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingLocations = null;
+            }
+            throw e;
+        }
+        for (RouteLocation location : locations) {
+            addTo(newCells, location);
+            addToOwner(newOwners, location);
+        }
+
+        synchronized (lock) {
+            // 조회 이후 저장된 루트는 DB 스냅샷에 없을 수 있으므로 새 인덱스에 다시 넣는다
+            for (RouteLocation location : pendingLocations) {
+                addTo(newCells, location);
+                addToOwner(newOwners, location);
+            }
+            pendingLocations = null;
+            cells = newCells;
+            owners = newOwners;
+        }
+        log.info("루트 공간 인덱스 로드 : " + locations.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteSaved(RouteSavedEvent event) {
+        if (event.getCenterLat() == null || event.getCenterLng() == null) {
+            return;
+        }
+        RouteLocation location = new RouteLocation(event.getRouteId(), event.getUserId(),
+                event.getCenterLat(), event.getCenterLng());
+        synchronized (lock) {
+            addTo(cells, location);
+            addToOwner(owners, location);
+            if (pendingLocations != null) {
+                pendingLocations.add(location);
+            }
+        }
+    }
+
+    // 유저 루트 전체 (가까운 순)
+    public List<RouteLocation> findMine(int userId, double lat, double lng) {
+        List<RouteLocation> result = new ArrayList<>(owners.getOrDefault(userId, List.of()));
+        result.sort(Comparator.comparingDouble(location -> DistanceCalculator.calculateDistance(
+                location.getCenterLat(), location.getCenterLng(), lat, lng)));
+        return result;
+    }
+
+    // 유저 루트 중 반경 안의 루트 (가까운 순)
+    public List<RouteLocation> findMine(int userId, double lat, double lng, double radius) {
+        return findNearby(lat, lng, radius, owner -> owner == userId);
+    }
+
+    // 다른 유저 루트 중 반경 안의 루트 (가까운 순)
+    public List<RouteLocation> findOthers(int userId, double lat, double lng, double radius) {
+        return findNearby(lat, lng, radius, owner -> owner != userId);
+    }
+
+    private List<RouteLocation> findNearby(double lat, double lng, double radius, IntPredicate ownerFilter) {
+        // 1. 반경을 덮는 격자 범위
+        double latDelta = radius / KM_PER_DEGREE;
+        double lngDelta = radius / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+        int minLat = cellIndex(lat - latDelta);
+        int maxLat = cellIndex(lat + latDelta);
+        int minLng = cellIndex(lng - lngDelta);
+        int maxLng = cellIndex(lng + lngDelta);
+
+        // 2. 격자 안의 루트 중 반경 안에 있는 것만
+        Map<Long, List<RouteLocation>> snapshot = cells;
+        List<RouteLocation> result = new ArrayList<>();
+        Map<String, Double> distances = new HashMap<>();
+        for (int i = minLat; i <= maxLat; i++) {
+            for (int j = minLng; j <= maxLng; j++) {
+                List<RouteLocation> cell = snapshot.get(cellKey(i, j));
+                if (cell == null) {
+                    continue;
+                }
+                for (RouteLocation location : cell) {
+                    if (!ownerFilter.test(location.getUserId())) {
+                        continue;
+                    }
+                    double distance = DistanceCalculator.calculateDistance(
+                            location.getCenterLat(), location.getCenterLng(), lat, lng);
+                    if (distance <= radius) {
+                        result.add(location);
+                        distances.put(location.getRouteId(), distance);
+                    }
+                }
+            }
+        }
+
+        // 3. 가까운 순 정렬
+        result.sort(Comparator.comparingDouble(location -> distances.get(location.getRouteId())));
+        return result;
+    }
+
+    private void addTo(Map<Long, List<RouteLocation>> target, RouteLocation location) {
+        long key = cellKey(cellIndex(location.getCenterLat()), cellIndex(location.getCenterLng()));
+        List<RouteLocation> cell = target.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+        cell.removeIf(saved -> saved.getRouteId().equals(location.getRouteId()));
+        cell.add(location);
+    }
+
+    private void addToOwner(Map<Integer, List<RouteLocation>> target, RouteLocation location) {
+        List<RouteLocation> routes = target.computeIfAbsent(location.getUserId(), k -> new CopyOnWriteArrayList<>());
+        routes.removeIf(saved -> saved.getRouteId().equals(location.getRouteId()));
+        routes.add(location);
+    }
+
+    private int cellIndex(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE);
+    }
+
+    private long cellKey(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | (lngIndex & 0xffffffffL);
+    }
+}
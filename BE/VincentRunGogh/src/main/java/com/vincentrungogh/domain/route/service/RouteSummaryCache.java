@@ -0,0 +1,92 @@
+package com.vincentrungogh.domain.route.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vincentrungogh.domain.board.event.BoardDeletedEvent;
+import com.vincentrungogh.domain.board.event.BoardLikeChangedEvent;
+import com.vincentrungogh.domain.board.repository.UserLikeRepository;
+import com.vincentrungogh.domain.route.entity.RouteSummary;
+import com.vincentrungogh.domain.route.event.RouteSavedEvent;
+import com.vincentrungogh.domain.route.repository.RouteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 루트 조회용 메모리 캐시
+ * - 루트 아이디 -> 루트 요약 정보 (제목, 이미지, 거리, 중심 좌표)
+ * - 유저 아이디 -> 좋아요한 루트 아이디 목록
+ * 루트 저장, 좋아요 변경, 게시글 삭제 이벤트가 오면 해당 항목을 지운다.
+ * 사용자와의 거리, 예상 시간은 요청마다 계산한다.
+ */
+@Slf4j
+@Component
+public class RouteSummaryCache {
+
+    private final RouteRepository routeRepository;
+    private final UserLikeRepository userLikeRepository;
+
+    private final Cache<String, RouteSummary> summaries;
+    private final Cache<Integer, List<String>> likedRouteIds;
+
+    public RouteSummaryCache(RouteRepository routeRepository,
+                             UserLikeRepository userLikeRepository,
+                             @Value("${route.cache.max-size:100000}") long maxSize,
+                             @Value("${route.cache.expire-minutes:60}") long expireMinutes) {
+        this.routeRepository = routeRepository;
+        this.userLikeRepository = userLikeRepository;
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+        this.likedRouteIds = Caffeine.newBuilder()
+                .maximumSize(maxSize / 10)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    // 요청한 순서대로 반환 (없는 루트는 제외)
+    public List<RouteSummary> getAll(List<String> routeIds) {
+        Map<String, RouteSummary> found = summaries.getAll(routeIds, this::load);
+        List<RouteSummary> result = new ArrayList<>(routeIds.size());
+        for (String routeId : routeIds) {
+            RouteSummary summary = found.get(routeId);
+            if (summary != null) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+
+    public List<String> getLikedRouteIds(int userId) {
+        return likedRouteIds.get(userId, userLikeRepository::findLikedRouteIds);
+    }
+
+    private Map<String, RouteSummary> load(Set<? extends String> routeIds) {
+        Map<String, RouteSummary> loaded = new HashMap<>();
+        for (RouteSummary summary : routeRepository.findRouteSummaries(new ArrayList<>(routeIds))) {
+            loaded.put(summary.getRouteId(), summary);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteSaved(RouteSavedEvent event) {
+        summaries.invalidate(event.getRouteId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardLikeChanged(BoardLikeChangedEvent event) {
+        likedRouteIds.invalidate(event.getUserId());
+    }
+
+    // 게시글이 삭제되면 누가 좋아요했는지 모르기 때문에 좋아요 목록 전체 삭제
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        likedRouteIds.invalidateAll();
+    }
+}
@@ -1,9 +1,10 @@
 package com.vincentrungogh.domain.route.service.dto.common;
 
-import com.vincentrungogh.domain.route.entity.Route;
+import com.vincentrungogh.domain.route.entity.RouteSummary;
 import com.vincentrungogh.global.exception.CustomException;
 import com.vincentrungogh.global.exception.ErrorCode;
 import com.vincentrungogh.global.util.DistanceCalculator;
+import com.vincentrungogh.global.util.ImageVariants;
 import lombok.*;
 
 @Getter
@@ -12,6 +13,7 @@ public class FindRoute {
     private String routeId;
     private String title;
     private String artImage;
+    private String artImageThumbnail;
     private Double distance;
     private int predictTime;
     private Double distanceFromUser;
@@ -22,12 +24,14 @@ public class FindRoute {
         this.routeId = routeId;
         this.title = title;
         this.artImage = artImage;
+        this.artImageThumbnail = ImageVariants.thumbnailUrl(artImage);
         this.distance = distance;
         this.predictTime = predictTime;
         this.distanceFromUser = distanceFromUser;
     }
 
-    public static FindRoute createFindRoute(Route route, Double lat, Double lng, Double averageSpeed) {
+    // 캐시된 루트 요약 정보로 생성 (사용자와의 거리, 예상 시간만 계산)
+    public static FindRoute createFindRoute(RouteSummary route, Double lat, Double lng, Double averageSpeed) {
 
         //사용자로부터 떨어진 거리
         Double distanceUser = DistanceCalculator.calculateDistance(route.getCenterLat(), route.getCenterLng(), lat, lng);
@@ -40,7 +44,7 @@ public class FindRoute {
         Double distance = Math.round((route.getDistance() / 1000.0) * 100) / 100.0;
 
         return FindRoute.builder()
-                .routeId(route.getId())
+                .routeId(route.getRouteId())
                 .title(route.getTitle())
                 .artImage(route.getArtImage() == null ? route.getAccumulatedDrawingImage() : route.getArtImage())
                 .distance(distance)
@@ -0,0 +1,46 @@
+package com.vincentrungogh.domain.route.service.dto.common;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 몽고에 압축 저장하는 좌표 목록을 원시 배열로 들고 있는 객체 (GeometryCodec)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Geometry {
+
+    private final double[] lats;
+    private final double[] lngs;
+    private final int size;
+
+    public static Geometry createGeometry(double[] lats, double[] lngs, int size) {
+        return new Geometry(lats, lngs, size);
+    }
+
+    public static Geometry createGeometry(List<Position> positionList) {
+        int size = positionList.size();
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        for (int i = 0; i < size; i++) {
+            Position position = positionList.get(i);
+            lats[i] = position.getLat();
+            lngs[i] = position.getLng();
+        }
+        return new Geometry(lats, lngs, size);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public List<Position> toPositionList() {
+        List<Position> positionList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            positionList.add(new Position(lats[i], lngs[i]));
+        }
+        return positionList;
+    }
+}
@@ -0,0 +1,48 @@
+package com.vincentrungogh.domain.route.service.dto.common;
+
+import lombok.*;
+
+// 루트 조회 조건 (반경 km, 페이지), 반경이나 크기가 없으면 제한하지 않음
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RouteSearchCondition {
+    private double lat;
+    private double lng;
+    private Double radius;
+    private int page;
+    private Integer size;
+
+    @Builder
+    private RouteSearchCondition(double lat, double lng, Double radius, int page, Integer size) {
+        this.lat = lat;
+        this.lng = lng;
+        this.radius = radius;
+        this.page = page;
+        this.size = size;
+    }
+
+    public static RouteSearchCondition createRouteSearchCondition(double lat, double lng, Double radius, int page, Integer size) {
+        return RouteSearchCondition.builder()
+                .lat(lat)
+                .lng(lng)
+                .radius(radius)
+                .page(page)
+                .size(size)
+                .build();
+    }
+
+    // 주변 루트 검색처럼 반드시 범위가 필요한 조회에서 빈 값을 기본값으로 채운다
+    public RouteSearchCondition withDefaults(double defaultRadius, int defaultSize) {
+        return createRouteSearchCondition(lat, lng,
+                radius == null ? defaultRadius : radius, page, size == null ? defaultSize : size);
+    }
+
+    public boolean isPaged() {
+        return size != null;
+    }
+
+    public int getOffset() {
+        return size == null ? 0 : page * size;
+    }
+}
@@ -12,16 +12,23 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class FindRouteResponseDto {
     private List<FindRoute> routeList;
+    private boolean hasNext;
 
 
     @Builder
-    private FindRouteResponseDto(List<FindRoute> routeList) {
+    private FindRouteResponseDto(List<FindRoute> routeList, boolean hasNext) {
         this.routeList = routeList;
+        this.hasNext = hasNext;
     }
 
     public static FindRouteResponseDto createFindRouteResponseDto(List<FindRoute> routeList) {
+        return createFindRouteResponseDto(routeList, false);
+    }
+
+    public static FindRouteResponseDto createFindRouteResponseDto(List<FindRoute> routeList, boolean hasNext) {
         return FindRouteResponseDto.builder()
                 .routeList(routeList)
+                .hasNext(hasNext)
                 .build();
     }
 }
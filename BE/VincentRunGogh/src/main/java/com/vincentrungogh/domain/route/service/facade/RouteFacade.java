@@ -5,6 +5,7 @@ import com.vincentrungogh.domain.myhealth.service.MyHealthService;
 import com.vincentrungogh.domain.route.entity.Route;
 import com.vincentrungogh.domain.route.entity.RouteType;
 import com.vincentrungogh.domain.route.service.RouteContext;
+import com.vincentrungogh.domain.route.service.RouteGeometryService;
 import com.vincentrungogh.domain.route.service.dto.response.*;
 import com.vincentrungogh.global.exception.CustomException;
 import com.vincentrungogh.global.exception.ErrorCode;
@@ -13,11 +14,13 @@ import com.vincentrungogh.global.service.PythonApiService;
 import com.vincentrungogh.global.service.RedisService;
 import com.vincentrungogh.domain.route.service.RouteService;
 import com.vincentrungogh.domain.route.service.dto.common.Position;
+import com.vincentrungogh.domain.route.service.dto.common.RouteSearchCondition;
 import com.vincentrungogh.domain.route.service.dto.request.ArtRouteRequestDto;
-import com.vincentrungogh.domain.route.service.dto.request.DataSaveRouteRequestDto;
 import com.vincentrungogh.domain.route.service.dto.request.SaveRouteRequestDto;
 import com.vincentrungogh.domain.user.entity.User;
+import com.vincentrungogh.domain.user.entity.UserSnapshot;
 import com.vincentrungogh.domain.user.service.UserService;
+import com.vincentrungogh.domain.user.service.UserSnapshotCache;
 import com.vincentrungogh.global.auth.service.dto.response.UserPrincipal;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -30,12 +33,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RouteFacade {
     private final UserService userService;
+    private final UserSnapshotCache userSnapshotCache;
     private final RouteService routeService;
     private final RedisService redisService;
     private final PythonApiService pythonApiService;
     private final MyHealthService myHealthService;
     private final AwsService awsService;
     private final RouteContext routeContext;
+    private final RouteGeometryService routeGeometryService;
 
     @Transactional
     public ArtRouteResponseDto convertArtRoute(UserPrincipal userPrincipal, ArtRouteRequestDto requestDto) {
@@ -64,9 +69,8 @@ public class RouteFacade {
         // 3. Redis에서 좌표 가져오기
         List<Position> positionList = redisService.getRoutePositionList(user.getId());
 
-        // 4. 파이썬 API 호출하여 데이터 저장
-        DataSaveRouteRequestDto dataRequestDto = DataSaveRouteRequestDto.createDataSaveRouteRequestDto(positionList);
-        DataSaveRouteResponseDto dataSaveResponse = pythonApiService.saveRoute(dataRequestDto);
+        // 4. 중심, 거리 계산 후 몽고에 좌표 저장
+        DataSaveRouteResponseDto dataSaveResponse = routeGeometryService.saveRoute(positionList);
 
         // 5. 루트 저장
         Route route = routeService.saveRoute(user, requestDto.getTitle(), imageUrl, dataSaveResponse);
@@ -81,12 +85,9 @@ public class RouteFacade {
     }
 
     @Transactional
-    public FindRouteResponseDto getRoute(UserPrincipal userPrincipal, String type, Double lat, Double lng) {
-        // 1. 사용자 확인
-        User user = userService.getUserById(userPrincipal.getId());
-
-        // 2. 사용자 평균 속력
-        MyHealth myHealth = myHealthService.getMyHealth(user);
+    public FindRouteResponseDto getRoute(UserPrincipal userPrincipal, String type, RouteSearchCondition condition) {
+        // 1. 사용자 확인, 평균 속력 (유저 요약 캐시에서 조회)
+        UserSnapshot user = userSnapshotCache.get(userPrincipal.getId());
 
         //파라미터로 들어온 타입이 mine, others, like 가 아니면 에러 발생
         RouteType routeType;
@@ -97,7 +98,7 @@ public class RouteFacade {
         }
 
         //전략 패턴을 이용하여 응답 반환
-        FindRouteResponseDto responseDto = routeContext.findRoute(user, routeType, lat, lng, myHealth.getAverageSpeed());
+        FindRouteResponseDto responseDto = routeContext.findRoute(user.getId(), routeType, condition, user.getAverageSpeed());
 
         return responseDto;
     }
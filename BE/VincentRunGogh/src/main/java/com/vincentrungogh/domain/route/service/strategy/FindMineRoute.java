@@ -1,37 +1,31 @@
 package com.vincentrungogh.domain.route.service.strategy;
 
 
-import com.vincentrungogh.domain.route.entity.Route;
-import com.vincentrungogh.domain.route.repository.MongoRouteRepository;
-import com.vincentrungogh.domain.route.repository.RouteRepository;
-import com.vincentrungogh.domain.route.service.dto.common.FindRoute;
+import com.vincentrungogh.domain.route.entity.RouteLocation;
+import com.vincentrungogh.domain.route.service.RouteSpatialIndex;
+import com.vincentrungogh.domain.route.service.dto.common.RouteSearchCondition;
 import com.vincentrungogh.domain.route.service.dto.response.FindRouteResponseDto;
-import com.vincentrungogh.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class FindMineRoute implements RouteStrategy {
 
-    private final RouteRepository routeRepository;
+    private final RouteSpatialIndex routeSpatialIndex;
+    private final NearbyRouteFinder nearbyRouteFinder;
 
     @Override
-    public FindRouteResponseDto findRoute(User user, double lat, double lng, Double averageSpeed) {
+    public FindRouteResponseDto findRoute(int userId, RouteSearchCondition condition, Double averageSpeed) {
 
-        //유저가 가진 루트 mysql에서 모두 조회
-        List<Route> routeList = routeRepository.findAllByUser(user);
+        //유저가 가진 루트 공간 인덱스에서 조회 (반경을 지정하면 반경 안의 루트만)
+        List<RouteLocation> locations = condition.getRadius() == null
+                ? routeSpatialIndex.findMine(userId, condition.getLat(), condition.getLng())
+                : routeSpatialIndex.findMine(userId, condition.getLat(), condition.getLng(), condition.getRadius());
 
-        List<FindRoute> findRouteList = routeList.stream()
-                .filter(route -> route.getTitle() != null)
-                .map(route -> FindRoute.createFindRoute(route, lat, lng, averageSpeed)) // 람다식 사용
-                .filter(Objects::nonNull) // null 값 제거
-                .toList();
-
-        return FindRouteResponseDto.createFindRouteResponseDto(findRouteList);
+        return nearbyRouteFinder.findRoute(locations, condition, averageSpeed);
     }
 
 }
@@ -1,35 +1,38 @@
 package com.vincentrungogh.domain.route.service.strategy;
 
-import com.vincentrungogh.domain.route.entity.Route;
-import com.vincentrungogh.domain.route.repository.RouteRepository;
-import com.vincentrungogh.domain.route.service.dto.common.FindRoute;
+import com.vincentrungogh.domain.route.entity.RouteLocation;
+import com.vincentrungogh.domain.route.service.RouteSpatialIndex;
+import com.vincentrungogh.domain.route.service.dto.common.RouteSearchCondition;
 import com.vincentrungogh.domain.route.service.dto.response.FindRouteResponseDto;
-import com.vincentrungogh.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class FindOthersRoute implements RouteStrategy {
 
-    private final RouteRepository routeRepository;
+    private final RouteSpatialIndex routeSpatialIndex;
+    private final NearbyRouteFinder nearbyRouteFinder;
 
-    @Override
-    public FindRouteResponseDto findRoute(User user, double lat, double lng, Double averageSpeed) {
+    // 반경, 크기를 지정하지 않으면 사용하는 기본 조회 반경(km), 크기
+    @Value("${route.search.default-radius:20}")
+    private double defaultRadius;
+
+    @Value("${route.search.default-size:100}")
+    private int defaultSize;
 
-        //유저가 가지지 않는 루트 mysql에서 모두 조회
-        List<Route> routeList = routeRepository.findAllByUserIsNotOrderByCreatedDesc(user);
+    @Override
+    public FindRouteResponseDto findRoute(int userId, RouteSearchCondition searchCondition, Double averageSpeed) {
+        RouteSearchCondition condition = searchCondition.withDefaults(defaultRadius, defaultSize);
 
-        List<FindRoute> findRouteList = routeList.stream()
-                .filter(route -> route.getTitle() != null)
-                .map(route -> FindRoute.createFindRoute(route, lat, lng, averageSpeed)) // 람다식 사용
-                .filter(Objects::nonNull) // null 값 제거
-                .toList();
+        //유저가 가지지 않는 루트 중 반경 안의 루트 공간 인덱스에서 조회
+        List<RouteLocation> locations = routeSpatialIndex.findOthers(userId,
+                condition.getLat(), condition.getLng(), condition.getRadius());
 
-        return FindRouteResponseDto.createFindRouteResponseDto(findRouteList);
+        return nearbyRouteFinder.findRoute(locations, condition, averageSpeed);
     }
 
 }
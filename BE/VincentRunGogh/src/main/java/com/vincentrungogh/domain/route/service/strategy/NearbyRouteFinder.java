@@ -0,0 +1,35 @@
+package com.vincentrungogh.domain.route.service.strategy;
+
+import com.vincentrungogh.domain.route.entity.RouteLocation;
+import com.vincentrungogh.domain.route.service.RouteSummaryCache;
+import com.vincentrungogh.domain.route.service.dto.common.FindRoute;
+import com.vincentrungogh.domain.route.service.dto.common.RouteSearchCondition;
+import com.vincentrungogh.domain.route.service.dto.response.FindRouteResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 공간 인덱스에서 찾은 루트(가까운 순)를 페이지 단위로 조회 (크기가 없으면 전체)
+@Component
+@RequiredArgsConstructor
+public class NearbyRouteFinder {
+
+    private final RouteSummaryCache routeSummaryCache;
+
+    public FindRouteResponseDto findRoute(List<RouteLocation> locations, RouteSearchCondition condition, Double averageSpeed) {
+        // 1. 페이지에 해당하는 루트 아이디 (크기가 없으면 전체)
+        int from = Math.min(condition.getOffset(), locations.size());
+        int to = condition.isPaged() ? Math.min(from + condition.getSize(), locations.size()) : locations.size();
+        List<String> routeIds = locations.subList(from, to).stream()
+                .map(RouteLocation::getRouteId)
+                .toList();
+
+        // 2. 캐시에서 루트 요약 정보 조회 (인덱스 순서 유지, 없는 것만 mysql에서 조회)
+        List<FindRoute> findRouteList = routeSummaryCache.getAll(routeIds).stream()
+                .map(route -> FindRoute.createFindRoute(route, condition.getLat(), condition.getLng(), averageSpeed))
+                .toList();
+
+        return FindRouteResponseDto.createFindRouteResponseDto(findRouteList, to < locations.size());
+    }
+}
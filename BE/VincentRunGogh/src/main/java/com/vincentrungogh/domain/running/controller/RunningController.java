@@ -1,6 +1,9 @@
 package com.vincentrungogh.domain.running.controller;
 
 import com.vincentrungogh.domain.running.service.RunningService;
+import com.vincentrungogh.domain.running.service.dto.common.RunningTrack;
+import com.vincentrungogh.domain.running.service.dto.request.CompactRunningBatchRequest;
+import com.vincentrungogh.domain.running.service.dto.request.RunningBatchRequest;
 import com.vincentrungogh.domain.running.service.dto.request.RunningRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -31,5 +34,28 @@ public class RunningController {
         runningService.running(request, userId);
     }
 
+    // 여러 좌표 한 번에 저장
+    @MessageMapping("/running/{nickname}/batch")
+    public void runningBatch(@DestinationVariable String nickname,
+                             @Valid RunningBatchRequest request,
+                             SimpMessageHeaderAccessor accessor){
+
+        log.debug(nickname + " : 달리기 " + request.getPositions().size() + "개");
+        int userId = (int) accessor.getSessionAttributes().get("userId");
+        runningService.running(RunningTrack.createRunningTrack(request.getPositions()), userId);
+    }
+
+    // 압축 포맷(마이크로도 델타 인코딩)으로 여러 좌표 한 번에 저장
+    @MessageMapping("/running/{nickname}/compact")
+    public void runningCompact(@DestinationVariable String nickname,
+                               @Valid CompactRunningBatchRequest request,
+                               SimpMessageHeaderAccessor accessor){
+
+        RunningTrack track = request.toRunningTrack();
+        log.debug(nickname + " : 달리기 " + track.getSize() + "개");
+        int userId = (int) accessor.getSessionAttributes().get("userId");
+        runningService.running(track, userId);
+    }
+
 
 }
@@ -1,11 +1,12 @@
 package com.vincentrungogh.domain.running.handler;
 
+import com.vincentrungogh.domain.running.service.RunningSessionRegistry;
 import com.vincentrungogh.global.auth.service.JwtService;
 import com.vincentrungogh.global.exception.CustomException;
 import com.vincentrungogh.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -14,45 +15,63 @@ import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
-import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+import java.util.Map;
+import java.util.regex.Pattern;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class StompHandler implements ChannelInterceptor {
 
+    // 집계하는 목적지 (RunningController 의 @MessageMapping), 그 밖의 목적지는 "other" 로 묶어 메트릭 수가 늘지 않게 한다
+    private static final Map<Pattern, String> DESTINATION_PATTERNS = Map.of(
+            Pattern.compile("^/pub/running/[^/]+$"), "/pub/running/{nickname}",
+            Pattern.compile("^/pub/running/[^/]+/batch$"), "/pub/running/{nickname}/batch",
+            Pattern.compile("^/pub/running/[^/]+/compact$"), "/pub/running/{nickname}/compact"
+    );
+
     private final JwtService jwtService;
+    private final RunningSessionRegistry runningSessionRegistry;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
         log.info("preSend");
 
-        // 1. 토큰 존재 여부 확인
+        // 1. 연결할 때 한 번만 토큰 검증 후 세션에 userId 저장
         if(accessor.getCommand() == StompCommand.CONNECT){
             String accessToken = getAccessToken(accessor);
-            if(!jwtService.validateToken(accessToken)){
-                throw new CustomException(ErrorCode.USER_NOT_FOUND);
+            int userId = jwtService.verify(accessToken).getUserId();
+
+            Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+            if(sessionAttributes == null){
+                throw new CustomException(ErrorCode.UNAUTHORIZED);
             }
+            sessionAttributes.put("userId", userId);
+            runningSessionRegistry.connected(accessor.getSessionId());
+        }
+
+        // 2. 목적지별 메시지 수
+        if(accessor.getCommand() == StompCommand.SEND){
+            meterRegistry.counter("stomp.messages", "destination", destinationPattern(accessor.getDestination()))
+                    .increment();
         }
 
         return message;
     }
 
-    @EventListener(SessionConnectedEvent.class)
-    public void onApplicationEvent(SessionConnectedEvent event) {
-        log.info("onApplicationEvent");
-        StompHeaderAccessor stompHeaderAccessor = StompHeaderAccessor.wrap(event.getMessage());
-        Message<?> connectMessage = (Message<?>) stompHeaderAccessor.getHeader("simpConnectMessage");
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(connectMessage);
-
-        String accessToken = getAccessToken(accessor);
-
-        if(!jwtService.validateToken(accessToken)) {
-            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+    private String destinationPattern(String destination){
+        if(destination == null){
+            return "none";
         }
-
-        accessor.getSessionAttributes().put("userId", jwtService.getUserId(accessToken));
+        for (Map.Entry<Pattern, String> entry : DESTINATION_PATTERNS.entrySet()) {
+            if (entry.getKey().matcher(destination).matches()) {
+                return entry.getValue();
+            }
+        }
+        return "other";
     }
 
     private String getAccessToken(StompHeaderAccessor accessor){
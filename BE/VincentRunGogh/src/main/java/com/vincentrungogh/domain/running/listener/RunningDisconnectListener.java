@@ -0,0 +1,36 @@
+package com.vincentrungogh.domain.running.listener;
+
+import com.vincentrungogh.domain.running.service.RunningService;
+import com.vincentrungogh.domain.running.service.RunningSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RunningDisconnectListener implements RunningEventListener {
+
+    private final RunningService runningService;
+    private final RunningSessionRegistry runningSessionRegistry;
+
+    // 소켓 연결이 끊기면 모아둔 좌표 바로 저장
+    @EventListener(SessionDisconnectEvent.class)
+    public void onDisconnect(SessionDisconnectEvent event) {
+        runningSessionRegistry.disconnected(event.getSessionId());
+
+        Map<String, Object> sessionAttributes = StompHeaderAccessor.wrap(event.getMessage()).getSessionAttributes();
+        if (sessionAttributes == null || sessionAttributes.get("userId") == null) {
+            return;
+        }
+
+        int userId = (int) sessionAttributes.get("userId");
+        log.info("소켓 연결 종료 : " + userId);
+        runningService.flush(userId);
+    }
+}
@@ -0,0 +1,226 @@
+package com.vincentrungogh.domain.running.service;
+
+import com.vincentrungogh.domain.running.service.dto.common.RunningTrack;
+import com.vincentrungogh.domain.running.service.dto.request.RunningRequest;
+import com.vincentrungogh.global.service.RedisService;
+import com.vincentrungogh.global.util.RunningTrackCodec;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 웹소켓으로 들어오는 달리기 좌표를 유저별로 모아 두었다가 한 번에 레디스에 저장한다.
+ * - flush-interval 마다 모든 유저의 좌표를 파이프라인 한 번으로 저장
+ * - 유저당 max-points 개가 쌓이면 저장 스레드에서 바로 저장
+ * - 드로잉 저장/완료, 소켓 연결 종료, 서버 종료 시 바로 저장
+ * 레디스 저장에 실패한 좌표는 버퍼에 되돌려 놓고 다음 주기에 다시 저장한다.
+ * 서버가 비정상 종료되면 최대 flush-interval 동안(유저당 max-points 개 미만)의 좌표만 유실된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RunningBuffer {
+
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Integer, ByteArrayOutputStream> pending = new ConcurrentHashMap<>();
+
+    // 같은 유저의 좌표가 순서가 바뀌어 저장되지 않도록 레디스 쓰기는 유저별로 하나씩 진행 (다른 유저는 기다리지 않음)
+    private final Map<Integer, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    // max-points 개가 쌓인 유저의 저장 대기열 (소켓 수신 스레드에서 레디스를 기다리지 않도록)
+    private final Set<Integer> full = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor flushExecutor;
+
+    @Value("${running.buffer.max-points:20}")
+    private int maxPoints;
+
+    @Value("${running.buffer.flush-threads:2}")
+    private int flushThreads;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("running.buffer.pending", pending, Map::size)
+                .description("레디스 저장을 기다리는 유저 수")
+                .register(meterRegistry);
+
+        AtomicInteger count = new AtomicInteger();
+        flushExecutor = new ThreadPoolExecutor(flushThreads, flushThreads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(1000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "running-flush-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        flushExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    public void add(int userId, RunningRequest position) {
+        append(userId, RunningTrackCodec.encode(position));
+    }
+
+    // 좌표 묶음은 한 번에 이어 붙인다
+    public void addAll(int userId, RunningTrack track) {
+        append(userId, RunningTrackCodec.encode(track));
+    }
+
+    private void append(int userId, byte[] record) {
+        ByteArrayOutputStream buffer = pending.compute(userId, (key, value) -> {
+            if (value == null) {
+                value = new ByteArrayOutputStream(RunningTrackCodec.RECORD_SIZE * maxPoints);
+            }
+            value.writeBytes(record);
+            return value;
+        });
+
+        // 가득 찬 버퍼는 저장 스레드에 넘긴다 (같은 유저는 대기열에 한 번만)
+        if (buffer.size() >= RunningTrackCodec.RECORD_SIZE * maxPoints && full.add(userId)) {
+            try {
+                flushExecutor.execute(() -> {
+                    full.remove(userId);
+                    try {
+                        flush(userId);
+                    } catch (Exception e) {
+                        log.error("달리기 좌표 저장 실패 userId=" + userId, e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 대기열이 가득 차면 다음 flushAll 에서 저장
+                full.remove(userId);
+            }
+        }
+    }
+
+    // 드로잉 저장/완료 전에 호출하므로 실패하면 좌표를 되돌려 놓고 예외를 그대로 던진다
+    public void flush(int userId) {
+        ReentrantLock lock = lockOf(userId);
+        lock.lock();
+        try {
+            ByteArrayOutputStream buffer = pending.remove(userId);
+            if (buffer == null) {
+                return;
+            }
+            byte[] records = buffer.toByteArray();
+            try {
+                redisService.appendRunning(userId, records);
+            } catch (RuntimeException e) {
+                restore(userId, records);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 새로 달리기를 시작할 때 이전 좌표를 모두 지우고 첫 좌표 저장
+    public void reset(int userId, RunningRequest position) {
+        ReentrantLock lock = lockOf(userId);
+        lock.lock();
+        try {
+            pending.remove(userId);
+            redisService.removeRunning(userId);
+            redisService.saveRunning(userId, position);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear(int userId) {
+        ReentrantLock lock = lockOf(userId);
+        lock.lock();
+        try {
+            pending.remove(userId);
+            redisService.removeRunning(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${running.buffer.flush-interval:1000}")
+    public void flushAll() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 다른 스레드가 저장 중인 유저는 건너뛰고 다음 주기에 저장
+        List<ReentrantLock> held = new ArrayList<>();
+        Map<Integer, byte[]> records = new HashMap<>();
+        try {
+            for (Integer userId : pending.keySet()) {
+                ReentrantLock lock = lockOf(userId);
+                if (!lock.tryLock()) {
+                    continue;
+                }
+                held.add(lock);
+                ByteArrayOutputStream buffer = pending.remove(userId);
+                if (buffer != null) {
+                    records.put(userId, buffer.toByteArray());
+                }
+            }
+
+            try {
+                redisService.appendRunning(records);
+            } catch (Exception e) {
+                log.error("달리기 좌표 저장 실패, 다음 주기에 다시 저장합니다. 유저 수 : " + records.size(), e);
+                records.forEach(this::restore);
+            }
+        } finally {
+            held.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    // 저장하지 못한 좌표를 그 사이 새로 들어온 좌표 앞에 되돌려 놓는다
+    private void restore(int userId, byte[] records) {
+        pending.compute(userId, (key, newer) -> {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(
+                    records.length + (newer == null ? RunningTrackCodec.RECORD_SIZE * maxPoints : newer.size()));
+            buffer.writeBytes(records);
+            if (newer != null) {
+                buffer.writeBytes(newer.toByteArray());
+            }
+            return buffer;
+        });
+    }
+
+    // 유저별 잠금 (유저당 한 개, 서버가 떠 있는 동안 유지)
+    private ReentrantLock lockOf(int userId) {
+        return locks.computeIfAbsent(userId, key -> new ReentrantLock());
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        flushExecutor.shutdown();
+        if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            flushExecutor.shutdownNow();
+        }
+        // 종료 직전에도 레디스 저장이 실패하면 몇 번 더 시도한다
+        for (int attempt = 0; attempt < 3 && !pending.isEmpty(); attempt++) {
+            flushAll();
+        }
+        if (!pending.isEmpty()) {
+            log.error("서버 종료 중 달리기 좌표를 저장하지 못했습니다. 유저 수 : " + pending.size());
+        }
+    }
+}
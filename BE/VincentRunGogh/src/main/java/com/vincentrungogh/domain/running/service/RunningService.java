@@ -1,7 +1,7 @@
 package com.vincentrungogh.domain.running.service;
 
+import com.vincentrungogh.domain.running.service.dto.common.RunningTrack;
 import com.vincentrungogh.domain.running.service.dto.request.RunningRequest;
-import com.vincentrungogh.global.service.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,12 +11,36 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RunningService {
 
-    private final RedisService redisService;
+    private final RunningBuffer runningBuffer;
 
     public void running(RunningRequest request, int userId){
-        // 레디스 저장
-        log.info(String.valueOf(request));
-        redisService.saveRunning(userId, request);
+        // 레디스 저장 (버퍼에 모았다가 한 번에 저장)
+        log.debug(String.valueOf(request));
+        runningBuffer.add(userId, request);
+    }
+
+    public void running(RunningTrack track, int userId){
+        // 좌표 묶음은 한 번에 버퍼에 저장
+        log.debug("좌표 묶음 : " + track.getSize());
+        runningBuffer.addAll(userId, track);
+    }
+
+    // 달리기 시작 : 이전 좌표 삭제 후 첫 좌표 저장
+    public void start(int userId, RunningRequest request){
+        runningBuffer.reset(userId, request);
+    }
+
+    // 드로잉 저장 전 : 마지막 좌표까지 레디스에 반영
+    public void finish(int userId, RunningRequest request){
+        runningBuffer.add(userId, request);
+        runningBuffer.flush(userId);
+    }
+
+    public void flush(int userId){
+        runningBuffer.flush(userId);
+    }
 
+    public void clear(int userId){
+        runningBuffer.clear(userId);
     }
-}
\ No newline at end of file
+}
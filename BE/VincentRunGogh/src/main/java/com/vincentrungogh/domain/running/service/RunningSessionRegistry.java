@@ -0,0 +1,39 @@
+package com.vincentrungogh.domain.running.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 이 서버에 연결된 달리기 소켓 세션 (running.sessions.active 게이지)
+@Component
+@RequiredArgsConstructor
+public class RunningSessionRegistry {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> sessionIds = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("running.sessions.active", sessionIds, Set::size)
+                .description("연결된 달리기 소켓 세션 수")
+                .register(meterRegistry);
+    }
+
+    public void connected(String sessionId) {
+        if (sessionId != null) {
+            sessionIds.add(sessionId);
+        }
+    }
+
+    public void disconnected(String sessionId) {
+        if (sessionId != null) {
+            sessionIds.remove(sessionId);
+        }
+    }
+}
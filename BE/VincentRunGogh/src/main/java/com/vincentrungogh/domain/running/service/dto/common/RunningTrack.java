@@ -0,0 +1,61 @@
+package com.vincentrungogh.domain.running.service.dto.common;
+
+import com.vincentrungogh.domain.route.service.dto.common.Position;
+import com.vincentrungogh.domain.running.service.dto.request.RunningRequest;
+import com.vincentrungogh.global.util.TrackStatisticsCalculator;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 달리기 좌표를 원시 배열로 들고 있는 객체 (seconds는 하루 중 몇 번째 초인지)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RunningTrack {
+
+    private final double[] lats;
+    private final double[] lngs;
+    private final int[] seconds;
+    private final int size;
+
+    public static RunningTrack createRunningTrack(double[] lats, double[] lngs, int[] seconds, int size) {
+        return new RunningTrack(lats, lngs, seconds, size);
+    }
+
+    public static RunningTrack createRunningTrack(List<RunningRequest> positions) {
+        int size = positions.size();
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        int[] seconds = new int[size];
+        for (int i = 0; i < size; i++) {
+            RunningRequest position = positions.get(i);
+            lats[i] = position.getLat();
+            lngs[i] = position.getLng();
+            seconds[i] = TrackStatisticsCalculator.toSecondOfDay(position.getTime());
+        }
+        return new RunningTrack(lats, lngs, seconds, size);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public List<Position> toPositionList() {
+        List<Position> positionList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            positionList.add(new Position(lats[i], lngs[i]));
+        }
+        return positionList;
+    }
+
+    public List<RunningRequest> toRunningRequestList() {
+        List<RunningRequest> runningRequestList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            runningRequestList.add(RunningRequest.createRunningRequest(lats[i], lngs[i],
+                    TrackStatisticsCalculator.toTimeString(seconds[i])));
+        }
+        return runningRequestList;
+    }
+}
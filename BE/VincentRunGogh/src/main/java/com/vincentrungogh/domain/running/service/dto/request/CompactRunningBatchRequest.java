@@ -0,0 +1,82 @@
+package com.vincentrungogh.domain.running.service.dto.request;
+
+import com.vincentrungogh.domain.running.service.dto.common.RunningTrack;
+import com.vincentrungogh.global.exception.CustomException;
+import com.vincentrungogh.global.exception.ErrorCode;
+import com.vincentrungogh.global.util.TrackStatisticsCalculator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * 여러 좌표를 한 번에 보내는 압축 포맷
+ * - lats, lngs : 마이크로도(도 * 1,000,000) 정수. 첫 값은 절대값, 이후는 이전 좌표와의 차이
+ * - seconds : 첫 좌표(time)로부터 이전 좌표와의 초 차이(0 ~ 86400). 첫 값은 0
+ * 차이를 더한 좌표는 개별 값 검증이 불가능하므로 복원하면서 위도 ±90, 경도 ±180 범위를 확인한다
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CompactRunningBatchRequest {
+
+    private static final double MICRO_DEGREE = 1_000_000.0;
+    private static final int SECONDS_OF_DAY = 60 * 60 * 24;
+    private static final int MAX_SIZE = 600;
+    private static final long MAX_LAT = 90_000_000L;
+    private static final long MAX_LNG = 180_000_000L;
+
+    @NotBlank
+    private String time;
+    @NotNull
+    private int[] lats;
+    @NotNull
+    private int[] lngs;
+    @NotNull
+    private int[] seconds;
+
+    @Builder
+    private CompactRunningBatchRequest(String time, int[] lats, int[] lngs, int[] seconds) {
+        this.time = time;
+        this.lats = lats;
+        this.lngs = lngs;
+        this.seconds = seconds;
+    }
+
+    public RunningTrack toRunningTrack() {
+        int size = lats.length;
+        if (size == 0 || size > MAX_SIZE || lngs.length != size || seconds.length != size) {
+            throw new CustomException(ErrorCode.INVALID_RUNNING_BATCH);
+        }
+
+        double[] decodedLats = new double[size];
+        double[] decodedLngs = new double[size];
+        int[] decodedSeconds = new int[size];
+
+        long lat = 0;
+        long lng = 0;
+        int second;
+        try {
+            second = TrackStatisticsCalculator.toSecondOfDay(time);
+        } catch (CustomException e) {
+            throw new CustomException(ErrorCode.INVALID_RUNNING_BATCH);
+        }
+        for (int i = 0; i < size; i++) {
+            // 하루 이상 차이는 올바른 좌표 간격이 아니고, 더하면 int가 넘칠 수 있다
+            if (seconds[i] < 0 || seconds[i] > SECONDS_OF_DAY) {
+                throw new CustomException(ErrorCode.INVALID_RUNNING_BATCH);
+            }
+            lat += lats[i];
+            lng += lngs[i];
+            if (Math.abs(lat) > MAX_LAT || Math.abs(lng) > MAX_LNG) {
+                throw new CustomException(ErrorCode.INVALID_RUNNING_BATCH);
+            }
+            second = (second + seconds[i]) % SECONDS_OF_DAY;
+
+            decodedLats[i] = lat / MICRO_DEGREE;
+            decodedLngs[i] = lng / MICRO_DEGREE;
+            decodedSeconds[i] = second;
+        }
+
+        return RunningTrack.createRunningTrack(decodedLats, decodedLngs, decodedSeconds, size);
+    }
+}
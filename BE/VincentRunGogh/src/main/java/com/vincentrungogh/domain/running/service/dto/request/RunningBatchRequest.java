@@ -0,0 +1,27 @@
+package com.vincentrungogh.domain.running.service.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RunningBatchRequest {
+    @NotEmpty
+    @Size(max = 600)
+    private List<@Valid RunningRequest> positions;
+
+    @Builder
+    private RunningBatchRequest(List<RunningRequest> positions) {
+        this.positions = positions;
+    }
+
+    public static RunningBatchRequest createRunningBatchRequest(List<RunningRequest> positions) {
+        return RunningBatchRequest.builder().positions(positions)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.vincentrungogh.domain.user.entity;
+
+// 인증 필터, 조회에서 사용하는 유저 요약 정보 (UserSnapshotCache에 저장)
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+public class UserSnapshot {
+    private int id;
+    private String email;
+    private String nickname;
+    private String profile;
+    // 루트 예상 시간 계산용 마이헬스 평균 속력
+    private double averageSpeed;
+
+    public static UserSnapshot createUserSnapshot(User user, double averageSpeed) {
+        return new UserSnapshot(user.getId(), user.getEmail(), user.getNickname(), user.getProfile(), averageSpeed);
+    }
+}
@@ -1,7 +1,8 @@
 package com.vincentrungogh.domain.user.service;
 
 import com.vincentrungogh.domain.drawing.entity.Drawing;
-import com.vincentrungogh.domain.drawing.entity.DrawingDetail;
+import com.vincentrungogh.domain.drawing.entity.DailyActivityRow;
+import com.vincentrungogh.domain.drawing.repository.DrawingDailyActivityRepository;
 import com.vincentrungogh.domain.drawing.repository.DrawingDetailRepository;
 import com.vincentrungogh.domain.drawing.repository.DrawingRepository;
 import com.vincentrungogh.domain.user.entity.User;
@@ -35,8 +36,10 @@ public class UserService implements UserDetailsService {
     private final UserRepository userRepository;
     private final DrawingRepository drawingRepository;
     private final DrawingDetailRepository drawingDetailRepository;
+    private final DrawingDailyActivityRepository drawingDailyActivityRepository;
     private final AwsService awsService;
     private final PasswordEncoder passwordEncoder;
+    private final UserSnapshotCache userSnapshotCache;
 
     public UserProfileResponse getUserProfile(int userId){
 
@@ -68,6 +71,7 @@ public class UserService implements UserDetailsService {
         // 4. 저장
         user.updateProfile(request.getNickname(), request.getWeight(), request.getHeight());
         userRepository.save(user);
+        userSnapshotCache.evict(userId);
     }
 
     public void updateProfileImage(int userId, MultipartFile image){
@@ -83,6 +87,7 @@ public class UserService implements UserDetailsService {
         // 4. DB 저장
         user.updateProfileImage(url);
         userRepository.save(user);
+        userSnapshotCache.evict(userId);
     }
 
     public void updatePassword(int userId, String rawPassword){
@@ -101,6 +106,7 @@ public class UserService implements UserDetailsService {
         // 3. DB 저장
         user.updatePassword(password);
         userRepository.save(user);
+        userSnapshotCache.evict(userId);
     }
 
     public WeekExerciseResponse getWeekExercise(int userId) {
@@ -114,22 +120,21 @@ public class UserService implements UserDetailsService {
         LocalDate startDate = date.minusDays(6);
 
 
-        // 3. 드로잉 정보 가져오기
-        // 4. 드로잉 디테일 가져오기
-        List<DrawingDetail> weekDrawingsDetail = drawingDetailRepository.findAllByUserAndCreatedBetweenDates(
-                user, startDate, date
+        // 3. 일별 누적 테이블에서 일주일 정보 가져오기
+        List<DailyActivityRow> weekActivities = drawingDailyActivityRepository.findDailyActivities(
+                user.getId(), startDate, date
         );
 
-        // 5.일주일 정보 리스트 생성
+        // 4.일주일 정보 리스트 생성
         double[] distance = new double[7];
         int[] time = new int[7];
 
-        // 6. 저장
-        for (DrawingDetail drawingDetail : weekDrawingsDetail) {
-            int index = (int) ChronoUnit.DAYS.between(drawingDetail.getCreated().toLocalDate(), date);
+        // 5. 저장
+        for (DailyActivityRow activity : weekActivities) {
+            int index = (int) ChronoUnit.DAYS.between(activity.getActivityDate(), date);
 
-            distance[6 - index] += drawingDetail.getDistance();
-            time[6 - index] += drawingDetail.getTime();
+            distance[6 - index] += activity.getTotalDistance();
+            time[6 - index] += activity.getTotalTime();
         }
 
         log.info("일주일 운동 정보(m)" + Arrays.toString(distance));
@@ -0,0 +1,58 @@
+package com.vincentrungogh.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vincentrungogh.domain.myhealth.entity.MyHealth;
+import com.vincentrungogh.domain.myhealth.event.MyHealthUpdatedEvent;
+import com.vincentrungogh.domain.myhealth.repository.MyHealthRepository;
+import com.vincentrungogh.domain.user.entity.UserSnapshot;
+import com.vincentrungogh.domain.user.repository.UserRepository;
+import com.vincentrungogh.global.exception.CustomException;
+import com.vincentrungogh.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 유저 요약 정보 메모리 캐시
+ * 프로필, 프로필 이미지, 비밀번호가 바뀌면 UserService, AuthService에서 지우고, 마이헬스가 바뀌면 커밋 후 지운다.
+ * 다른 서버에서 바뀐 정보는 만료 시간까지만 남아 있다.
+ */
+@Component
+public class UserSnapshotCache {
+
+    private final UserRepository userRepository;
+    private final MyHealthRepository myHealthRepository;
+    private final Cache<Integer, UserSnapshot> snapshots;
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             MyHealthRepository myHealthRepository,
+                             @Value("${user.cache.max-size:10000}") long maxSize,
+                             @Value("${user.cache.expire-seconds:300}") long expireSeconds) {
+        this.userRepository = userRepository;
+        this.myHealthRepository = myHealthRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .build();
+    }
+
+    public UserSnapshot get(int userId) {
+        return snapshots.get(userId, id -> userRepository.findById(id)
+                .map(user -> UserSnapshot.createUserSnapshot(user, myHealthRepository.findByUserId(id)
+                        .map(MyHealth::getAverageSpeed)
+                        .orElse(0.0)))
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND)));
+    }
+
+    public void evict(int userId) {
+        snapshots.invalidate(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMyHealthUpdated(MyHealthUpdatedEvent event) {
+        evict(event.getUserId());
+    }
+}
@@ -1,7 +1,7 @@
 package com.vincentrungogh.global.auth.filter;
 
-import com.vincentrungogh.domain.user.entity.User;
-import com.vincentrungogh.domain.user.service.UserService;
+import com.vincentrungogh.domain.user.entity.UserSnapshot;
+import com.vincentrungogh.domain.user.service.UserSnapshotCache;
 import com.vincentrungogh.global.auth.service.dto.response.UserPrincipal;
 import com.vincentrungogh.global.auth.service.JwtService;
 import com.vincentrungogh.global.exception.CustomException;
@@ -27,7 +27,8 @@ public class JwtFilter extends GenericFilterBean {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
     private final JwtService jwtService;
-    private final UserService userService;
+    private final UserSnapshotCache userSnapshotCache;
+    private final boolean checkUser;
 
     // 필터
     @Override
@@ -43,11 +44,15 @@ public class JwtFilter extends GenericFilterBean {
 
         String jwt = resolveToken(request);
 
-        if(StringUtils.hasText(jwt) && jwtService.validateToken(jwt)) {
-            int userId = jwtService.getUserId(jwt);
+        if(StringUtils.hasText(jwt)) {
+            int userId = jwtService.verify(jwt).getUserId();
 
-            User user = userService.getUserById(userId);
-            UserDetails userDetails = UserPrincipal.createUserPrincipal(userId, user.getEmail(), user.getPassword());
+            // 토큰 클레임만으로 인증 (DB 조회 없음), 유저 확인이 필요하면 캐시된 유저 정보 사용
+            UserDetails userDetails = UserPrincipal.createUserPrincipal(userId);
+            if (checkUser) {
+                UserSnapshot user = userSnapshotCache.get(userId);
+                userDetails = UserPrincipal.createUserPrincipal(userId, user.getEmail(), null);
+            }
 
             // 사용자 아이디와 비밀번호를 통해 사용자 인증(비밀번호 일치 확인)
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -4,6 +4,7 @@ import com.vincentrungogh.domain.myhealth.entity.MyHealth;
 import com.vincentrungogh.domain.myhealth.repository.MyHealthRepository;
 import com.vincentrungogh.domain.user.entity.User;
 import com.vincentrungogh.domain.user.repository.UserRepository;
+import com.vincentrungogh.domain.user.service.UserSnapshotCache;
 import com.vincentrungogh.global.auth.service.dto.request.CodeCheckRequest;
 import com.vincentrungogh.global.auth.service.dto.request.LoginRequest;
 import com.vincentrungogh.global.auth.service.dto.request.ResetPasswordRequest;
@@ -48,6 +49,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final RedisService redisService;
     private final EmailService emailService;
+    private final UserSnapshotCache userSnapshotCache;
 
     public LoginResponse login(LoginRequest loginRequest, HttpServletResponse response) {
         log.info("AuthService : 로그인 시작");
@@ -209,6 +211,7 @@ public class AuthService {
         // 5. user DB 저장
         user.updateRandomPassword(passwordEncoder.encode(password));
         userRepository.save(user);
+        userSnapshotCache.evict(user.getId());
     }
 
     public void logout(int userId){
@@ -220,22 +223,17 @@ public class AuthService {
         // 1. 쿠키에서 refreshToken 재발급
         String token = jwtService.extractRefreshToken(request);
 
-        // 2. 유효성 검증
-        if(!jwtService.validateToken(token)){
-            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
-        }
-
-        // 3. userId 찾기
-        int userId = jwtService.getUserId(token);
+        // 2. 유효성 검증, userId 찾기
+        int userId = jwtService.verify(token).getUserId();
 
-        // 4. refreshToken 일치 확인
+        // 3. refreshToken 일치 확인
         String redisToken = redisService.getRefreshToken(userId);
 
         if(!redisToken.equals(token)){
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // 5. accessToken 재발급
+        // 4. accessToken 재발급
         String accessToken = jwtService.buildAccessToken(userId);
 
         return ReissueTokenResponse.createReissueTokenResponse(accessToken);
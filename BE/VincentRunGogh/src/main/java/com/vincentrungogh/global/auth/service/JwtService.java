@@ -2,8 +2,11 @@ package com.vincentrungogh.global.auth.service;
 
 import com.vincentrungogh.global.exception.CustomException;
 import com.vincentrungogh.global.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vincentrungogh.global.auth.service.dto.response.VerifiedToken;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
@@ -16,7 +19,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
@@ -34,17 +41,37 @@ public class JwtService implements InitializingBean {
 
     // JWT 키 값
     private static final String USER_ID = "userId";
+    private static final String TOKEN_ID = "tokenId";
 
     // JWT secret-key 생성에 사용되는 문자열
     @Value("${jwt.token.secret-key}")
     private String SECRET_KEY;
 
+    // 검증된 토큰 캐시 크기, 유지 시간
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+    @Value("${jwt.cache.expire-seconds:60}")
+    private long cacheExpireSeconds;
+
     // JWT 서명에 사용되는 SecretKey 객체
     private SecretKey secretKey;
 
+    // 미리 만들어 둔 파서 (thread-safe)
+    private JwtParser jwtParser;
+
+    // 토큰 해시 -> 검증된 클레임
+    private Cache<String, VerifiedToken> verifiedTokens;
+
     @Override
     public void afterPropertiesSet() {
         this.secretKey = buildKey();
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheExpireSeconds))
+                .build();
     }
 
     private SecretKey buildKey() {
@@ -72,7 +99,7 @@ public class JwtService implements InitializingBean {
 
         return Jwts.builder()
                 .claim(USER_ID, userId)
-                .claim("tokenId", tokenId)
+                .claim(TOKEN_ID, tokenId)
                 .signWith(secretKey)
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(now.plusSeconds(REFRESHTOKEN_EXPIRE_TIME)))
@@ -101,38 +128,40 @@ public class JwtService implements InitializingBean {
         return null;
     }
 
-    // JWT 토큰 유효성 확인
-    public boolean validateToken(String token) {
-        log.info("토큰 유효성 "+token);
-        try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return !claims.getBody().getExpiration().toInstant().isBefore(Instant.now());
-        } catch (Exception e) {
-            log.info("Invalid JWT token", e);
+    // JWT 토큰 검증 (서명, 만료 확인 후 클레임 반환)
+    // 검증된 토큰은 해시 값을 키로 잠시 캐시하며, 캐시에서 꺼낼 때도 만료 시간은 다시 확인한다
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
             throw new CustomException(ErrorCode.UNAUTHORIZED);
         }
-    }
 
-    // JWT 페이로드 파싱
-    private Claims parsePayload(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (cached.isExpired(Instant.now())) {
+                verifiedTokens.invalidate(digest);
+                throw new CustomException(ErrorCode.UNAUTHORIZED);
+            }
+            return cached;
+        }
+
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            VerifiedToken verified = VerifiedToken.createVerifiedToken(claims, USER_ID, TOKEN_ID);
+            verifiedTokens.put(digest, verified);
+            return verified;
         } catch (Exception e) {
-            log.error("Failed to parse JWT payload", e);
+            log.info("Invalid JWT token: " + e.getMessage());
             throw new CustomException(ErrorCode.UNAUTHORIZED);
         }
     }
 
-    public int getUserId(String token){
-        Claims payload = parsePayload(token);
-        Number userId = (Number) payload.get(USER_ID);
-        return userId.intValue();
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
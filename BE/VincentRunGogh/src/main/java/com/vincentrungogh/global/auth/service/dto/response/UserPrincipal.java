@@ -33,6 +33,12 @@ public class UserPrincipal implements UserDetails {
                 .build();
     }
 
+    // 토큰 클레임만으로 만드는 인증 정보 (이메일, 비밀번호 없음)
+    public static UserPrincipal createUserPrincipal(int id) {
+        return UserPrincipal.builder()
+                .id(id)
+                .build();
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -0,0 +1,31 @@
+package com.vincentrungogh.global.auth.service.dto.response;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+// 서명 검증이 끝난 토큰의 클레임 (변경 불가)
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VerifiedToken {
+
+    private final int userId;
+    private final String tokenId;
+    private final Instant expiration;
+
+    public static VerifiedToken createVerifiedToken(Claims claims, String userIdKey, String tokenIdKey) {
+        Number userId = (Number) claims.get(userIdKey);
+        return new VerifiedToken(userId.intValue(),
+                claims.get(tokenIdKey, String.class),
+                claims.getExpiration().toInstant());
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiration.isBefore(now);
+    }
+}
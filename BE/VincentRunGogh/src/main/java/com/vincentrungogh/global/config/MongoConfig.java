@@ -0,0 +1,42 @@
+package com.vincentrungogh.global.config;
+
+import com.vincentrungogh.domain.route.service.dto.common.Geometry;
+import com.vincentrungogh.global.util.GeometryCodec;
+import org.bson.types.Binary;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.util.List;
+
+@Configuration
+public class MongoConfig {
+
+    // 좌표 목록은 압축 바이너리로 저장하고 원시 배열로 읽는다
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(
+                new GeometryWritingConverter(),
+                new GeometryReadingConverter()
+        ));
+    }
+
+    @WritingConverter
+    static class GeometryWritingConverter implements Converter<Geometry, Binary> {
+        @Override
+        public Binary convert(Geometry source) {
+            return new Binary(GeometryCodec.encode(source));
+        }
+    }
+
+    @ReadingConverter
+    static class GeometryReadingConverter implements Converter<Binary, Geometry> {
+        @Override
+        public Geometry convert(Binary source) {
+            return GeometryCodec.decode(source.getData());
+        }
+    }
+}
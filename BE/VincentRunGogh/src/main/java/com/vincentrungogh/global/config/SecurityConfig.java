@@ -1,13 +1,15 @@
 package com.vincentrungogh.global.config;
 
-import com.vincentrungogh.domain.user.service.UserService;
+import com.vincentrungogh.domain.user.service.UserSnapshotCache;
 import com.vincentrungogh.global.auth.filter.JwtFilter;
 import com.vincentrungogh.global.auth.service.JwtService;
 import com.vincentrungogh.global.exception.ExceptionHandlerFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -26,7 +28,15 @@ import static org.springframework.security.config.Customizer.withDefaults;
 @Slf4j
 public class SecurityConfig {
     private final JwtService jwtService;
-    private final UserService userService;
+    private final UserSnapshotCache userSnapshotCache;
+
+    // true면 인증할 때마다 유저 존재 여부를 캐시된 유저 정보로 확인
+    @Value("${jwt.filter.check-user:false}")
+    private boolean checkUser;
+
+    // 메트릭(actuator)을 노출하는 관리 포트, 서비스 포트(server.port)와 달리 외부에 열지 않는다
+    @Value("${management.server.port:8081}")
+    private int managementPort;
 
     @Bean
     public static BCryptPasswordEncoder passwordEncoder() {
@@ -39,6 +49,21 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    // 관리 포트로 들어온 요청은 health, prometheus 만 허용 (서비스 포트에서는 actuator 에 접근할 수 없음)
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementConfigure(final HttpSecurity http) throws Exception {
+        return http.securityMatcher(request -> request.getLocalPort() == managementPort)
+                .csrf((csrf) -> csrf.disable())
+                .authorizeHttpRequests((authorize) -> authorize
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .anyRequest().denyAll())
+                .sessionManagement((session) -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .formLogin(httpSecurityFormLoginConfigurer -> httpSecurityFormLoginConfigurer.disable())
+                .httpBasic(httpSecurityHttpBasicConfigurer -> httpSecurityHttpBasicConfigurer.disable())
+                .build();
+    }
+
     //http 보안 설정으로 특정 url에 접근 권한 제한
     @Bean
     public SecurityFilterChain configure(final HttpSecurity http) throws Exception {
@@ -54,7 +79,7 @@ public class SecurityConfig {
                 .sessionManagement((session) -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .formLogin(httpSecurityFormLoginConfigurer -> httpSecurityFormLoginConfigurer.disable()) // 로그인 폼 미사용
                 .httpBasic(httpSecurityHttpBasicConfigurer -> httpSecurityHttpBasicConfigurer.disable()) // http basic 미사용
-                .addFilterBefore(new JwtFilter(jwtService, userService), UsernamePasswordAuthenticationFilter.class) // Jwt Filter 추가
+                .addFilterBefore(new JwtFilter(jwtService, userSnapshotCache, checkUser), UsernamePasswordAuthenticationFilter.class) // Jwt Filter 추가
                 .addFilterBefore(new ExceptionHandlerFilter(), JwtFilter.class) // Jwt에서 CustomException 사용
                 .build();
     }
@@ -64,6 +89,6 @@ public class SecurityConfig {
         // 아래 url은 filter 에서 제외
         return web ->
                 web.ignoring()
-                        .requestMatchers("/login/**", "/token/refresh", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/ws/**");
+                        .requestMatchers("/login/**", "/token/refresh", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/ws/**", "/images/**");
     }
 }
\ No newline at end of file
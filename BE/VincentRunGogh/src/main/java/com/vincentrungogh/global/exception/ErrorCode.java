@@ -36,6 +36,12 @@ public enum ErrorCode {
     ROUTE_IS_NULL("루트가 null입니다. 루트 드로잉을 시작할 수 없습니다", HttpStatus.NOT_FOUND),
     INVALID_COMMENT_LENGTH("게시글 내용은 최대 30자까지 가능합니다.", HttpStatus.BAD_REQUEST),
     PYTHON_API_TIMEOUT_ERROR("파이썬 서버에서 응답 시간이 초과되었습니다.", HttpStatus.NOT_IMPLEMENTED),
+    INVALID_RUNNING_BATCH("좌표 묶음 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_TIME_FORMAT("시간 형식(HH:mm:ss)이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_PAGE_TOKEN("유효하지 않은 페이지 토큰입니다.", HttpStatus.BAD_REQUEST),
+    EMPTY_IMAGE_FILE("이미지 파일이 비어있습니다.", HttpStatus.BAD_REQUEST),
+    TOO_MANY_UPLOADS("이미지 업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    IMAGE_NOT_FOUND("이미지를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     ;
 
 
@@ -1,11 +1,10 @@
 package com.vincentrungogh.global.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.vincentrungogh.global.exception.CustomException;
 import com.vincentrungogh.global.exception.ErrorCode;
+import com.vincentrungogh.global.util.Base64Streams;
+import com.vincentrungogh.global.util.ImageResizer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,65 +13,79 @@ import org.springframework.web.multipart.MultipartFile;
 
 
 import java.io.ByteArrayInputStream;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.net.URL;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Base64;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class AwsService {
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String name;
+    @Value("${cloud.aws.s3.max-concurrent-uploads:8}")
+    private int maxConcurrentUploads;
 
-    private final AmazonS3 s3Client;
+    @Value("${cloud.aws.s3.upload-wait-millis:3000}")
+    private long uploadWaitMillis;
 
-    // UUID를 통해 파일명을 바꾸고 S3에 업로드
-    public String uploadFile(String file) {
-        try {
-            byte[] decodedBytes = Base64.getDecoder().decode(file.getBytes(StandardCharsets.UTF_8));
+    @Value("${image.profile.resize-enabled:false}")
+    private boolean profileResizeEnabled;
 
-            String fileName = "route/" + UUID.randomUUID()+".jpg";
+    @Value("${image.profile.max-size:512}")
+    private int profileMaxSize;
 
-            // S3에 업로드할 InputStream 생성
-            ByteArrayInputStream inputStream = new ByteArrayInputStream(decodedBytes);
+    @Value("${image.profile.quality:0.85}")
+    private float profileQuality;
 
-            // S3에 파일 업로드
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(decodedBytes.length);
-            s3Client.putObject(new PutObjectRequest(name, fileName, inputStream, metadata));
+    private final ImageStore imageStore;
+    private final ThumbnailService thumbnailService;
+    private final MetricsService metricsService;
 
-            inputStream.close(); // InputStream 닫기
+    // 동시에 진행되는 프로필 업로드 수 제한
+    private Semaphore uploadPermits;
 
-            return fileName;
-        } catch (Exception e) {
-            log.error(e.getMessage());
-            throw new CustomException(ErrorCode.FAILED_CONVERT_FILE);
-        }
+    @PostConstruct
+    public void init() {
+        uploadPermits = new Semaphore(maxConcurrentUploads);
+    }
+
+    // UUID를 통해 파일명을 바꾸고 이미지 저장소에 업로드
+    public String uploadFile(String file) {
+        return uploadBase64("route/", file);
     }
 
     public String uploadDrawingFile(String file) {
-        try {
-            byte[] decodedBytes = Base64.getDecoder().decode(file.getBytes(StandardCharsets.UTF_8));
+        return uploadBase64("drawing/", file);
+    }
 
-            String fileName = "drawing/" + UUID.randomUUID()+".jpg";
+    public String uploadDrawingFile(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new CustomException(ErrorCode.EMPTY_IMAGE_FILE);
+        }
 
-            // S3에 업로드할 InputStream 생성
-            ByteArrayInputStream inputStream = new ByteArrayInputStream(decodedBytes);
+        String fileName = "drawing/" + UUID.randomUUID() + extensionOf(file.getContentType());
+        try (InputStream inputStream = file.getInputStream()) {
+            putImage("drawing", fileName, inputStream, file.getSize(), file.getContentType());
+            thumbnailService.createThumbnails(fileName);
 
-            // S3에 파일 업로드
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(decodedBytes.length);
-            s3Client.putObject(new PutObjectRequest(name, fileName, inputStream, metadata));
+            return fileName;
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new CustomException(ErrorCode.FAILED_CONVERT_FILE);
+        }
+    }
 
-            inputStream.close(); // InputStream 닫기
+    // base64 문자열을 스트림으로 디코딩하면서 업로드 (디코딩된 전체 byte[]를 만들지 않음)
+    private String uploadBase64(String directory, String file) {
+        String fileName = directory + UUID.randomUUID() + ".jpg";
+        try (InputStream inputStream = Base64Streams.decode(file)) {
+            putImage(directory.substring(0, directory.length() - 1), fileName, inputStream, Base64Streams.decodedLength(file), null);
+            thumbnailService.createThumbnails(fileName);
 
             return fileName;
         } catch (Exception e) {
@@ -81,13 +94,26 @@ public class AwsService {
         }
     }
 
+    // 임시 파일 없이 multipart 스트림을 바로 업로드
     public String uploadFile(MultipartFile file, int userId) {
-        try{
-            File fileObj = convertMultiPartFileToFile(file);
+        if (file == null || file.isEmpty()) {
+            throw new CustomException(ErrorCode.EMPTY_IMAGE_FILE);
+        }
+        acquireUploadPermit();
+        try {
+            // 1. 큰 이미지는 줄여서 업로드
+            byte[] resized = resizeProfileImage(file);
+            if (resized != null) {
+                String uniqueFileName = "profile/" + generateFileName(String.valueOf(userId), ".jpg");
+                putImage("profile", uniqueFileName, new ByteArrayInputStream(resized), resized.length, "image/jpeg");
+                return uniqueFileName;
+            }
+
+            // 2. 원본 업로드
             String originalFilename = file.getOriginalFilename();
 
             String extension = "";
-            int dotIndex = originalFilename.lastIndexOf('.');
+            int dotIndex = originalFilename == null ? -1 : originalFilename.lastIndexOf('.');
             if (dotIndex > 0) {
                 extension = originalFilename.substring(dotIndex);
             }
@@ -95,35 +121,69 @@ public class AwsService {
             //memberId로 랜덤
             String uniqueFileName = "profile/"+generateFileName(String.valueOf(userId), extension);
 
-            s3Client.putObject(new PutObjectRequest(name, uniqueFileName, fileObj));
-            fileObj.delete();
+            try (InputStream inputStream = file.getInputStream()) {
+                putImage("profile", uniqueFileName, inputStream, file.getSize(), file.getContentType());
+            }
             return uniqueFileName;
 
-        }catch (Exception e) {
+        } catch (Exception e) {
             log.error(e.getMessage());
 
             throw new CustomException(ErrorCode.FAILED_CONVERT_FILE);
+        } finally {
+            uploadPermits.release();
         }
     }
 
     public String getImageUrl(String userUrl) {
-        URL url = s3Client.getUrl(name, userUrl);
-        return "" + url;
+        return imageStore.getUrl(userUrl);
     }
 
     public void deleteImage(String imgUrl) {
         String key = imgUrl.substring(imgUrl.lastIndexOf("/") + 1);
 
 
-        s3Client.deleteObject(new DeleteObjectRequest(name, key));
+        imageStore.delete(key);
+    }
+
+    // 업로드 시간 측정 (operation : route, drawing, profile)
+    private void putImage(String operation, String key, InputStream inputStream, long contentLength, String contentType) {
+        metricsService.run("image-store", operation,
+                () -> imageStore.put(key, inputStream, contentLength, contentType));
+    }
+
+    private void acquireUploadPermit() {
+        try {
+            if (!uploadPermits.tryAcquire(uploadWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new CustomException(ErrorCode.TOO_MANY_UPLOADS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.TOO_MANY_UPLOADS);
+        }
     }
 
-    private File convertMultiPartFileToFile(MultipartFile file) throws IOException {
-        File convFile = new File(file.getOriginalFilename());
-        FileOutputStream fos = new FileOutputStream(convFile);
-        fos.write(file.getBytes());
-        fos.close();
-        return convFile;
+    private byte[] resizeProfileImage(MultipartFile file) throws IOException {
+        if (!profileResizeEnabled) {
+            return null;
+        }
+        try (InputStream inputStream = file.getInputStream()) {
+            return ImageResizer.resizeToJpeg(inputStream, profileMaxSize, profileQuality);
+        }
+    }
+
+    // 업로드된 이미지의 Content-Type으로 확장자 결정 (알 수 없으면 .jpg)
+    private String extensionOf(String contentType) {
+        if (contentType == null) {
+            return ".jpg";
+        }
+        return switch (contentType.toLowerCase()) {
+            case "image/png" -> ".png";
+            case "image/gif" -> ".gif";
+            case "image/webp" -> ".webp";
+            case "image/bmp" -> ".bmp";
+            default -> ".jpg";
+        };
     }
 
     private String generateFileName(String memberId, String extension) {
@@ -0,0 +1,102 @@
+package com.vincentrungogh.global.service;
+
+import com.vincentrungogh.domain.route.service.dto.common.Geometry;
+import com.vincentrungogh.global.util.GeometryCodec;
+import com.vincentrungogh.global.util.TrackSimplifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * route, drawing_detail 문서의 {lat, lng} 배열(positionList)을 압축 좌표(geometry)로 바꾸고 간소화 단계(lodLevels)를 채운다.
+ * 이미 바뀐 문서는 건너뛰므로 여러 번 실행해도 된다. (파이썬 서버가 저장한 루트도 다시 실행하면 바뀐다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeometryMigrationService {
+
+    private static final List<String> COLLECTIONS = List.of("route", "drawing_detail");
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${mongo.geometry.migrate:false}")
+    private boolean migrate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!migrate) {
+            return;
+        }
+        for (String collection : COLLECTIONS) {
+            long migrated = migrate(collection);
+            log.info("좌표 압축 마이그레이션 " + collection + " : " + migrated + "건");
+        }
+    }
+
+    public long migrate(String collection) {
+        Query query = new Query(Criteria.where("positionList").exists(true)
+                .and("geometry").exists(false));
+        query.fields().include("positionList");
+
+        long migrated = 0;
+        List<Pair<Query, UpdateDefinition>> updates = new ArrayList<>(BATCH_SIZE);
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, collection)) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                Geometry geometry = toGeometry(document);
+                updates.add(Pair.of(
+                        new Query(Criteria.where("_id").is(document.get("_id"))),
+                        new Update().set("geometry", new Binary(GeometryCodec.encode(geometry)))
+                                .set("lodLevels", new Binary(TrackSimplifier.computeLevels(geometry)))
+                                .unset("positionList")
+                ));
+                if (updates.size() == BATCH_SIZE) {
+                    migrated += flush(collection, updates);
+                }
+            }
+        }
+        return migrated + flush(collection, updates);
+    }
+
+    private long flush(String collection, List<Pair<Query, UpdateDefinition>> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        int modified = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection)
+                .updateOne(updates)
+                .execute()
+                .getModifiedCount();
+        updates.clear();
+        return modified;
+    }
+
+    private Geometry toGeometry(Document document) {
+        List<?> positionList = document.getList("positionList", Object.class, List.of());
+        int size = positionList.size();
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        for (int i = 0; i < size; i++) {
+            Document position = (Document) positionList.get(i);
+            lats[i] = ((Number) position.get("lat")).doubleValue();
+            lngs[i] = ((Number) position.get("lng")).doubleValue();
+        }
+        return Geometry.createGeometry(lats, lngs, size);
+    }
+}
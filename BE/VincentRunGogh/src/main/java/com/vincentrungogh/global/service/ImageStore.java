@@ -0,0 +1,21 @@
+package com.vincentrungogh.global.service;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+// 이미지 저장소 (image.store.type=s3 | local)
+public interface ImageStore {
+
+    void put(String key, InputStream inputStream, long contentLength, String contentType);
+
+    InputStream get(String key);
+
+    boolean exists(String key);
+
+    void delete(String key);
+
+    String getUrl(String key);
+
+    // prefix로 시작하는 모든 키
+    void forEachKey(String prefix, Consumer<String> consumer);
+}
@@ -0,0 +1,243 @@
+package com.vincentrungogh.global.service;
+
+import com.vincentrungogh.global.exception.CustomException;
+import com.vincentrungogh.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 로컬(NFS) 파일 시스템 이미지 저장소
+ * 내용은 SHA-256 해시 경로(objects/ab/abcd...)에 한 번만 저장하고, 키 경로(keys/drawing/...)는 하드 링크로 연결한다.
+ * 파일은 LocalImageController가 /images/{key}로 제공한다.
+ * 키를 덮어쓰거나 지울 때 그 키가 내용의 마지막 링크였다면 objects의 파일도 지운다.
+ * 다른 서버가 지운 키 등으로 남은 파일(링크 수 1)과 오래된 임시 파일은 주기적으로 정리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.store.type", havingValue = "local")
+public class LocalImageStore implements ImageStore {
+
+    private final Path objects;
+    private final Path keys;
+    private final String baseUrl;
+
+    // 업로드 중인 다른 서버의 파일을 지우지 않도록, 이 시간보다 오래된 파일만 정리
+    private final Duration sweepGrace;
+
+    // 키 연결과 objects 삭제를 같은 서버 안에서 서로 배타적으로 실행
+    private final Object linkLock = new Object();
+
+    public LocalImageStore(@Value("${image.store.local.root:./images}") String root,
+                           @Value("${image.store.local.base-url:}") String baseUrl,
+                           @Value("${image.store.local.sweep-grace-minutes:60}") long sweepGraceMinutes) throws IOException {
+        Path rootPath = Paths.get(root).toAbsolutePath().normalize();
+        this.objects = Files.createDirectories(rootPath.resolve("objects"));
+        this.keys = Files.createDirectories(rootPath.resolve("keys"));
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.sweepGrace = Duration.ofMinutes(sweepGraceMinutes);
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long contentLength, String contentType) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            // 1. 해시를 계산하면서 임시 파일에 저장
+            temp = Files.createTempFile(objects, "upload-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (DigestInputStream digestInputStream = new DigestInputStream(inputStream, digest)) {
+                size = Files.copy(digestInputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (contentLength >= 0 && size != contentLength) {
+                throw new IOException("파일 크기가 일치하지 않습니다. key: " + key);
+            }
+
+            Path blob = blobOf(HexFormat.of().formatHex(digest.digest()));
+            Files.createDirectories(blob.getParent());
+            Files.createDirectories(target.getParent());
+
+            synchronized (linkLock) {
+                // 2. 기존 키 연결 해제 (마지막 링크였다면 objects 파일도 삭제)
+                unlink(target);
+
+                // 3. 같은 내용이 없을 때만 저장 (임시 파일은 연결이 끝날 때까지 남겨둔다)
+                if (!Files.exists(blob)) {
+                    moveToBlob(temp, blob);
+                }
+
+                // 4. 키 경로 연결 (정리 작업이 그 사이 objects 파일을 지웠다면 다시 저장, 하드 링크를 지원하지 않으면 복사)
+                try {
+                    Files.createLink(target, blob);
+                } catch (NoSuchFileException e) {
+                    moveToBlob(temp, blob);
+                    Files.createLink(target, blob);
+                } catch (UnsupportedOperationException | IOException e) {
+                    Files.copy(blob, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.warn("임시 파일 삭제 실패: {}", temp);
+                }
+            }
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    // 키 삭제 (다른 키가 같은 내용을 참조하지 않을 때만 objects 파일도 삭제)
+    @Override
+    public void delete(String key) {
+        Path target = resolve(key);
+        try {
+            synchronized (linkLock) {
+                unlink(target);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 어떤 키도 연결하지 않은 objects 파일(링크 수 1)과 남은 임시 파일 정리
+    @Scheduled(cron = "${image.store.local.sweep-cron:0 30 4 * * *}")
+    public void sweep() {
+        Instant threshold = Instant.now().minus(sweepGrace);
+        AtomicInteger count = new AtomicInteger();
+        try (Stream<Path> paths = Files.walk(objects)) {
+            paths.filter(Files::isRegularFile).forEach(path -> {
+                try {
+                    FileTime modified = Files.getLastModifiedTime(path);
+                    if (modified.toInstant().isAfter(threshold)) {
+                        return;
+                    }
+                    boolean temp = path.getParent().equals(objects);
+                    synchronized (linkLock) {
+                        if (temp || linkCount(path) == 1) {
+                            Files.deleteIfExists(path);
+                            count.incrementAndGet();
+                        }
+                    }
+                } catch (IOException e) {
+                    log.warn("이미지 정리 실패: {}, {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("이미지 정리 실패: {}", e.getMessage());
+        }
+        log.info("참조되지 않은 이미지 파일 정리: {}개", count.get());
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return baseUrl + "/images/" + key;
+    }
+
+    @Override
+    public void forEachKey(String prefix, Consumer<String> consumer) {
+        Path directory = resolve(prefix);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.filter(Files::isRegularFile)
+                    .map(path -> keys.relativize(path).toString().replace('\\', '/'))
+                    .forEach(consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 키 파일을 지우고, 그 키가 objects 파일의 마지막 링크였다면 objects 파일도 지운다 (linkLock 안에서 호출)
+    private void unlink(Path target) throws IOException {
+        if (!Files.isRegularFile(target)) {
+            return;
+        }
+        Path blob = linkCount(target) == 2 ? blobOf(hash(target)) : null;
+        Files.delete(target);
+        if (blob != null && linkCount(blob) == 1) {
+            Files.deleteIfExists(blob);
+        }
+    }
+
+    private void moveToBlob(Path temp, Path blob) throws IOException {
+        try {
+            Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 다른 서버가 같은 내용을 먼저 저장
+        }
+    }
+
+    // 하드 링크 수 (지원하지 않는 파일 시스템이면 -1, 이 경우 objects 파일을 지우지 않는다)
+    private int linkCount(Path path) throws IOException {
+        try {
+            return (Integer) Files.getAttribute(path, "unix:nlink");
+        } catch (UnsupportedOperationException | IllegalArgumentException | NoSuchFileException e) {
+            return -1;
+        }
+    }
+
+    private Path blobOf(String hash) {
+        return objects.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private String hash(Path path) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 키 경로 (저장소 밖의 경로는 허용하지 않음)
+    public Path resolve(String key) {
+        Path path = keys.resolve(key).normalize();
+        if (!path.startsWith(keys) || path.equals(keys)) {
+            throw new CustomException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+        return path;
+    }
+}
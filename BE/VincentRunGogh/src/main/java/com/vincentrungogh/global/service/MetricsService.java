@@ -0,0 +1,51 @@
+package com.vincentrungogh.global.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Supplier;
+
+/**
+ * 외부 의존성(파이썬 서버, 이미지 저장소, 레디스, 몽고) 호출 시간 측정
+ * dependency.calls{dependency, operation, outcome} 타이머로 기록하고 /actuator/prometheus 로 노출한다.
+ * (p50, p99, 히스토그램은 application.properties 의 management.metrics.distribution.* 설정)
+ */
+@Service
+@RequiredArgsConstructor
+public class MetricsService {
+
+    private static final String DEPENDENCY_TIMER = "dependency.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String dependency, String operation, Supplier<T> supplier) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return supplier.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(dependencyTimer(dependency, operation, outcome));
+        }
+    }
+
+    public void run(String dependency, String operation, Runnable runnable) {
+        record(dependency, operation, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    private Timer dependencyTimer(String dependency, String operation, String outcome) {
+        return Timer.builder(DEPENDENCY_TIMER)
+                .description("외부 의존성 호출 시간")
+                .tag("dependency", dependency)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -29,6 +29,7 @@ import java.net.URI;
 @RequiredArgsConstructor
 public class PythonApiService {
     private final RestTemplate restTemplate;
+    private final MetricsService metricsService;
     @Value("${data.api.url}")
     private String dataUrl;
 
@@ -45,13 +46,13 @@ public class PythonApiService {
         //이를 해결하기 위해 타입을 정확하게 지정
         ResponseEntity<ResultDto<DataArtRouteResponseDto>> response;
         try {
-            response = restTemplate.exchange(
+            response = metricsService.record("python", "art-route", () -> restTemplate.exchange(
                     uri,
                     HttpMethod.POST,
                     new HttpEntity<>(requestDto),
                     new ParameterizedTypeReference<ResultDto<DataArtRouteResponseDto>>() {
                     }
-            );
+            ));
         } catch(ResourceAccessException e){
             throw new CustomException(ErrorCode.PYTHON_API_TIMEOUT_ERROR);
         } catch(Exception e) {
@@ -80,12 +81,12 @@ public class PythonApiService {
         //이를 해결하기 위해 타입을 정확하게 지정
         ResponseEntity<ResultDto<DataSaveRouteResponseDto>> response;
         try {
-        response = restTemplate.exchange(
+        response = metricsService.record("python", "save-route", () -> restTemplate.exchange(
                 uri,
                 HttpMethod.POST,
                 new HttpEntity<>(requestDto),
                 new ParameterizedTypeReference<ResultDto<DataSaveRouteResponseDto>>() {}
-        );
+        ));
         } catch(ResourceAccessException e){
             throw new CustomException(ErrorCode.PYTHON_API_TIMEOUT_ERROR);
         } catch (Exception e) {
@@ -111,12 +112,12 @@ public class PythonApiService {
 
         ResponseEntity<ResultDto<DataSaveDrawingDetailResponse>> response;
         try{
-            response = restTemplate.exchange(
+            response = metricsService.record("python", "drawing-detail", () -> restTemplate.exchange(
                     uri,
                     HttpMethod.POST,
                     new HttpEntity<>(request),
                     new ParameterizedTypeReference<ResultDto<DataSaveDrawingDetailResponse>>() {}
-            );
+            ));
         } catch(ResourceAccessException e){
             throw new CustomException(ErrorCode.PYTHON_API_TIMEOUT_ERROR);
         }catch (Exception e) {
@@ -1,16 +1,24 @@
 package com.vincentrungogh.global.service;
 
 import com.vincentrungogh.domain.route.service.dto.common.Position;
+import com.vincentrungogh.domain.running.service.dto.common.RunningTrack;
 import com.vincentrungogh.domain.running.service.dto.request.RunningRequest;
+import com.vincentrungogh.global.util.RunningTrackCodec;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -18,71 +26,109 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RedisService {
     private final RedisTemplate<String, Object> redisTemplate;
+    private final MetricsService metricsService;
+    private final MeterRegistry meterRegistry;
+
+    // 레디스에 쌓인 달리기 좌표 수 (조회 시점 기준)
+    private DistributionSummary runningTrackPoints;
+
+    @PostConstruct
+    public void init() {
+        runningTrackPoints = DistributionSummary.builder("running.track.points")
+                .description("레디스에 저장된 달리기 좌표 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
 
     public void saveRoutePositionList(int userId, List<Position> positionList) {
         String key = "rooting:" + userId;
-        redisTemplate.opsForValue().set(key, positionList);
+        metricsService.run("redis", "route-position.save", () -> redisTemplate.opsForValue().set(key, positionList));
     }
 
     public void removeRoutePositionList(int userId){
         String key = "rooting:" + userId;
-        redisTemplate.delete(key);
+        metricsService.run("redis", "route-position.remove", () -> redisTemplate.delete(key));
     }
 
     public List<Position> getRoutePositionList(int userId) {
         String key = "rooting:" + userId;
-        return (List<Position>) redisTemplate.opsForValue().get(key);
+        return (List<Position>) metricsService.record("redis", "route-position.get", () -> redisTemplate.opsForValue().get(key));
     }
 
     public void saveEmailCode(String email, String code,  String expirationTime){
+        metricsService.run("redis", "email-code.save", () -> {
+            redisTemplate.opsForValue().set(email, code);
 
-        redisTemplate.opsForValue().set(email, code);
-
-        redisTemplate.opsForValue().set(email+ "-expirationTime", expirationTime);
-
-        redisTemplate.expire(email+ "-expirationTime", 180, TimeUnit.SECONDS);
-        redisTemplate.expire(email, 180, TimeUnit.SECONDS);
+            redisTemplate.opsForValue().set(email+ "-expirationTime", expirationTime);
 
+            redisTemplate.expire(email+ "-expirationTime", 180, TimeUnit.SECONDS);
+            redisTemplate.expire(email, 180, TimeUnit.SECONDS);
+        });
     }
 
     public String getEmailCode(String email){
-        return (String) redisTemplate.opsForValue().get(email);
+        return (String) metricsService.record("redis", "email-code.get", () -> redisTemplate.opsForValue().get(email));
     }
 
     public String getEmailExpirationTime(String email){
         String key = email + "-expirationTime";
-        return (String) redisTemplate.opsForValue().get(key);
+        return (String) metricsService.record("redis", "email-code.get", () -> redisTemplate.opsForValue().get(key));
     }
 
     //
     public void saveRefreshToken(int userId, String refreshToken){
         String key = "refreshToken:" + userId;
-        redisTemplate.opsForValue().set(key, refreshToken);
+        metricsService.run("redis", "refresh-token.save", () -> redisTemplate.opsForValue().set(key, refreshToken));
     }
 
     public String getRefreshToken(int userId){
         String key = "refreshToken:" + userId;
-        return (String) redisTemplate.opsForValue().get(key);
+        return (String) metricsService.record("redis", "refresh-token.get", () -> redisTemplate.opsForValue().get(key));
     }
 
     public void removeRefreshToken(int userId){
         String key = "refreshToken:" + userId;
-        redisTemplate.delete(key);
+        metricsService.run("redis", "refresh-token.remove", () -> redisTemplate.delete(key));
     }
 
-    // 드로잉 정보 저장
+    // 드로잉 정보 저장 (좌표당 고정 길이 바이너리 레코드를 이어 붙인다)
     public void removeRunning(int userId){
-        String key = "running:" + userId;
-        redisTemplate.delete(key);
+        String key = "running-track:" + userId;
+        metricsService.run("redis", "running.remove", () -> redisTemplate.delete(key));
     }
 
     public void saveRunning(int userId, RunningRequest position){
-        String key = "running:" + userId;
-        redisTemplate.opsForList().rightPush(key, position);
+        appendRunning(userId, RunningTrackCodec.encode(position));
+    }
+
+    public void appendRunning(int userId, byte[] records){
+        byte[] key = runningKey(userId);
+        metricsService.run("redis", "running.append", () -> redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.stringCommands().append(key, records)));
+    }
+
+    // 여러 유저의 좌표를 파이프라인 한 번으로 저장
+    public void appendRunning(Map<Integer, byte[]> records){
+        if (records.isEmpty()) {
+            return;
+        }
+        metricsService.run("redis", "running.append-pipelined", () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            records.forEach((userId, record) ->
+                    connection.stringCommands().append(runningKey(userId), record));
+            return null;
+        }));
+    }
+
+    public RunningTrack getRunning(int userId){
+        byte[] key = runningKey(userId);
+        byte[] bytes = metricsService.record("redis", "running.get", () -> redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(key)));
+        RunningTrack track = RunningTrackCodec.decode(bytes);
+        runningTrackPoints.record(track.getSize());
+        return track;
     }
 
-    public List<RunningRequest> getRunning(int userId){
-        String key = "running:" + userId;
-        return (List<RunningRequest>) (List<?>)redisTemplate.opsForList().range(key, 0, -1);
+    private byte[] runningKey(int userId){
+        return ("running-track:" + userId).getBytes(StandardCharsets.UTF_8);
     }
 }
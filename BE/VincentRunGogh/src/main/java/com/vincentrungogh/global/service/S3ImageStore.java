@@ -0,0 +1,72 @@
+package com.vincentrungogh.global.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "image.store.type", havingValue = "s3", matchIfMissing = true)
+public class S3ImageStore implements ImageStore {
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String name;
+
+    private final AmazonS3 s3Client;
+
+    @Override
+    public void put(String key, InputStream inputStream, long contentLength, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+        s3Client.putObject(new PutObjectRequest(name, key, inputStream, metadata));
+    }
+
+    @Override
+    public InputStream get(String key) {
+        return s3Client.getObject(name, key).getObjectContent();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return s3Client.doesObjectExist(name, key);
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(new DeleteObjectRequest(name, key));
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return "" + s3Client.getUrl(name, key);
+    }
+
+    @Override
+    public void forEachKey(String prefix, Consumer<String> consumer) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(name)
+                .withPrefix(prefix);
+        ListObjectsV2Result result;
+        do {
+            result = s3Client.listObjectsV2(request);
+            for (S3ObjectSummary summary : result.getObjectSummaries()) {
+                consumer.accept(summary.getKey());
+            }
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+    }
+}
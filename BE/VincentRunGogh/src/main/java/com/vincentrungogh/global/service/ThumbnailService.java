@@ -0,0 +1,123 @@
+package com.vincentrungogh.global.service;
+
+import com.vincentrungogh.global.util.ImageResizer;
+import com.vincentrungogh.global.util.ImageVariants;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 피드, 목록에서 사용할 썸네일을 업로드 후 비동기로 생성
+ * 이메일 전송 등 @Async 기본 실행기에 영향을 주지 않도록 전용 스레드 풀(빈으로 등록하지 않음)에서 만든다.
+ * 큐에는 키만 넣고, 작업 스레드가 저장소에서 원본을 읽으므로 메모리에 올라가는 원본은 스레드 수만큼으로 제한된다.
+ * 큐가 가득 차면 업로드한 요청 스레드에서 직접 만든다.
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    private static final List<String> DIRECTORIES = List.of("route/", "drawing/");
+
+    @Value("${image.thumbnail.size:256}")
+    private int size;
+
+    @Value("${image.thumbnail.quality:0.8}")
+    private float quality;
+
+    @Value("${image.thumbnail.backfill:false}")
+    private boolean backfill;
+
+    private final ImageStore imageStore;
+    private final ThreadPoolExecutor executor;
+
+    public ThumbnailService(ImageStore imageStore,
+                            @Value("${image.thumbnail.pool-size:2}") int poolSize,
+                            @Value("${image.thumbnail.queue-capacity:100}") int queueCapacity) {
+        this.imageStore = imageStore;
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    // 업로드가 끝난 원본을 저장소에서 읽어 생성
+    public void createThumbnails(String key) {
+        executor.execute(() -> {
+            try {
+                createThumbnailsNow(key);
+            } catch (Exception e) {
+                // 썸네일이 없으면 클라이언트가 원본을 사용하므로 저장 요청은 실패시키지 않는다
+                log.warn("썸네일 생성 실패 key: {}, {}", key, e.getMessage());
+            }
+        });
+    }
+
+    // 썸네일 기능 이전에 업로드된 이미지 처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfill) {
+            return;
+        }
+        executor.execute(() -> {
+            AtomicInteger count = new AtomicInteger();
+            for (String directory : DIRECTORIES) {
+                imageStore.forEachKey(directory, key -> {
+                    if (imageStore.exists(ImageVariants.thumbnailKey(key))) {
+                        return;
+                    }
+                    try {
+                        createThumbnailsNow(key);
+                        count.incrementAndGet();
+                    } catch (Exception e) {
+                        log.warn("썸네일 생성 실패 key: {}, {}", key, e.getMessage());
+                    }
+                });
+            }
+            log.info("썸네일 백필 완료: {}개", count.get());
+        });
+    }
+
+    private void createThumbnailsNow(String key) throws Exception {
+        // 1. 원본 읽기 (EXIF 방향 반영)
+        BufferedImage source;
+        try (InputStream inputStream = imageStore.get(key)) {
+            source = ImageResizer.read(inputStream.readAllBytes());
+        }
+        if (source == null) {
+            log.warn("이미지가 아니므로 썸네일을 만들지 않습니다. key: {}", key);
+            return;
+        }
+
+        // 2. 축소 후 JPEG로 저장
+        byte[] thumbnail = ImageResizer.encode(ImageResizer.scaleDown(source, size), "jpg", quality);
+        imageStore.put(ImageVariants.thumbnailKey(key), new ByteArrayInputStream(thumbnail), thumbnail.length, "image/jpeg");
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("썸네일 생성 작업이 종료되지 않았습니다.");
+            executor.shutdownNow();
+        }
+    }
+}
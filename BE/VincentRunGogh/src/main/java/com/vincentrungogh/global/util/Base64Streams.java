@@ -0,0 +1,68 @@
+package com.vincentrungogh.global.util;
+
+import java.io.InputStream;
+import java.util.Base64;
+
+// base64 문자열을 통째로 byte[]로 디코딩하지 않고 읽는 만큼만 디코딩
+public class Base64Streams {
+
+    private Base64Streams() {
+    }
+
+    public static InputStream decode(String base64) {
+        return Base64.getDecoder().wrap(new AsciiInputStream(base64));
+    }
+
+    // 패딩 여부와 관계없이 디코딩 후 바이트 수
+    public static long decodedLength(String base64) {
+        int length = base64.length();
+        int padding = 0;
+        if (length > 0 && base64.charAt(length - 1) == '=') {
+            padding++;
+        }
+        if (length > 1 && base64.charAt(length - 2) == '=') {
+            padding++;
+        }
+        return (long) length * 3 / 4 - padding;
+    }
+
+    // base64는 ASCII 문자만 사용하므로 문자를 그대로 바이트로 읽는다
+    private static class AsciiInputStream extends InputStream {
+
+        private final String source;
+        private int position;
+
+        private AsciiInputStream(String source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() {
+            if (position >= source.length()) {
+                return -1;
+            }
+            return source.charAt(position++) & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int remaining = source.length() - position;
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = Math.min(length, remaining);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) source.charAt(position++);
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return source.length() - position;
+        }
+    }
+}
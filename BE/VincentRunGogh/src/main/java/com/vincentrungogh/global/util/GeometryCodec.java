@@ -0,0 +1,97 @@
+package com.vincentrungogh.global.util;
+
+import com.vincentrungogh.domain.route.service.dto.common.Geometry;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 몽고에 저장하는 좌표 목록 바이너리 포맷
+ * 버전(1바이트) + 좌표 수(varint) + 좌표마다 [lat, lng] 마이크로도(1e-6도, 약 0.1m) 정수의 이전 좌표와의 차이를 zigzag varint로 기록
+ * 달리기 좌표는 이웃한 점끼리 차이가 작아서 좌표 하나가 보통 2~4바이트로 줄어든다. (BSON 서브 문서는 약 40바이트)
+ */
+public class GeometryCodec {
+
+    private static final byte VERSION = 1;
+    private static final double SCALE = 1_000_000.0;
+
+    private GeometryCodec() {
+    }
+
+    public static byte[] encode(Geometry geometry) {
+        return encode(geometry.getLats(), geometry.getLngs(), geometry.getSize());
+    }
+
+    public static byte[] encode(double[] lats, double[] lngs, int size) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size * 4 + 8);
+        out.write(VERSION);
+        writeVarint(out, size);
+
+        long prevLat = 0;
+        long prevLng = 0;
+        for (int i = 0; i < size; i++) {
+            long lat = Math.round(lats[i] * SCALE);
+            long lng = Math.round(lngs[i] * SCALE);
+            writeVarint(out, zigzag(lat - prevLat));
+            writeVarint(out, zigzag(lng - prevLng));
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return out.toByteArray();
+    }
+
+    public static Geometry decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return Geometry.createGeometry(new double[0], new double[0], 0);
+        }
+        if (bytes[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 좌표 포맷 버전입니다. : " + bytes[0]);
+        }
+
+        int[] offset = {1};
+        int size = (int) readVarint(bytes, offset);
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+
+        long lat = 0;
+        long lng = 0;
+        for (int i = 0; i < size; i++) {
+            lat += unzigzag(readVarint(bytes, offset));
+            lng += unzigzag(readVarint(bytes, offset));
+            lats[i] = lat / SCALE;
+            lngs[i] = lng / SCALE;
+        }
+        return Geometry.createGeometry(lats, lngs, size);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] bytes, int[] offset) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (offset[0] >= bytes.length || shift > 63) {
+                throw new IllegalArgumentException("좌표 데이터가 손상되었습니다.");
+            }
+            byte b = bytes[offset[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+}
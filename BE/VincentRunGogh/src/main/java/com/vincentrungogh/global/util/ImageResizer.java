@@ -0,0 +1,186 @@
+package com.vincentrungogh.global.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+// 긴 변이 maxSize를 넘는 이미지를 줄여 다시 인코딩 (EXIF 방향은 픽셀에 반영)
+public class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    // 줄일(돌릴) 필요가 없거나 읽을 수 없는 이미지면 null
+    public static byte[] resizeToJpeg(InputStream inputStream, int maxSize, float quality) throws IOException {
+        byte[] bytes = inputStream.readAllBytes();
+        int orientation = readOrientation(bytes);
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(bytes));
+        if (source == null || (orientation == 1 && Math.max(source.getWidth(), source.getHeight()) <= maxSize)) {
+            return null;
+        }
+        return encode(scaleDown(orient(source, orientation), maxSize), "jpg", quality);
+    }
+
+    // 다시 인코딩하면 EXIF가 사라지므로 방향(Orientation) 태그대로 픽셀을 돌려서 읽는다
+    public static BufferedImage read(byte[] bytes) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(bytes));
+        if (source == null) {
+            return null;
+        }
+        return orient(source, readOrientation(bytes));
+    }
+
+    // EXIF 방향 값(1~8)에 맞게 회전/반전, 1(정방향)이면 그대로
+    public static BufferedImage orient(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+
+        boolean swap = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swap ? height : width, swap ? width : height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    // JPEG APP1(Exif) 의 IFD0 에서 방향 태그(0x0112)를 읽는다, 없으면 1
+    static int readOrientation(byte[] bytes) {
+        if (bytes.length < 4 || (bytes[0] & 0xff) != 0xFF || (bytes[1] & 0xff) != 0xD8) {
+            return 1;
+        }
+        int offset = 2;
+        while (offset + 4 <= bytes.length && (bytes[offset] & 0xff) == 0xFF) {
+            int marker = bytes[offset + 1] & 0xff;
+            // SOS 이후는 이미지 데이터
+            if (marker == 0xDA || marker == 0xD9) {
+                return 1;
+            }
+            int length = readShort(bytes, offset + 2, false);
+            if (marker == 0xE1 && length >= 16 && startsWithExif(bytes, offset + 4)) {
+                return readTiffOrientation(bytes, offset + 10, Math.min(offset + 2 + length, bytes.length));
+            }
+            offset += 2 + length;
+        }
+        return 1;
+    }
+
+    private static boolean startsWithExif(byte[] bytes, int offset) {
+        return offset + 6 <= bytes.length
+                && bytes[offset] == 'E' && bytes[offset + 1] == 'x' && bytes[offset + 2] == 'i' && bytes[offset + 3] == 'f'
+                && bytes[offset + 4] == 0 && bytes[offset + 5] == 0;
+    }
+
+    private static int readTiffOrientation(byte[] bytes, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return 1;
+        }
+        boolean littleEndian;
+        if (bytes[tiff] == 'I' && bytes[tiff + 1] == 'I') {
+            littleEndian = true;
+        } else if (bytes[tiff] == 'M' && bytes[tiff + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return 1;
+        }
+
+        long ifd = tiff + readInt(bytes, tiff + 4, littleEndian);
+        if (ifd < tiff || ifd + 2 > end) {
+            return 1;
+        }
+        int count = readShort(bytes, (int) ifd, littleEndian);
+        for (int i = 0; i < count; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (readShort(bytes, entry, littleEndian) == 0x0112) {
+                int orientation = readShort(bytes, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int first = bytes[offset] & 0xff;
+        int second = bytes[offset + 1] & 0xff;
+        return littleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private static long readInt(byte[] bytes, int offset, boolean littleEndian) {
+        long high = readShort(bytes, littleEndian ? offset + 2 : offset, littleEndian);
+        long low = readShort(bytes, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+
+    // 긴 변이 maxSize 이하가 되도록 줄인 RGB 이미지 (jpg는 알파 채널이 없으므로 흰 배경에 그린다)
+    public static BufferedImage scaleDown(BufferedImage source, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    public static byte[] encode(BufferedImage image, String format, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("지원하지 않는 이미지 형식입니다: " + format);
+        }
+
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null && param.getCompressionTypes() != null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,39 @@
+package com.vincentrungogh.global.util;
+
+// 원본 이미지 키/URL로부터 썸네일 키/URL 계산
+// 썸네일은 "thumb/" 아래 같은 경로에 JPEG(.jpg)로 저장된다
+// 썸네일은 업로드 후 비동기로 만들어지므로 업로드 직후나 생성에 실패한 경우 URL이 404일 수 있다 (클라이언트는 원본 URL 사용)
+public class ImageVariants {
+
+    public static final String THUMBNAIL_PREFIX = "thumb/";
+    private static final String THUMBNAIL_EXTENSION = ".jpg";
+
+    private ImageVariants() {
+    }
+
+    public static String thumbnailKey(String key) {
+        return replaceExtension(THUMBNAIL_PREFIX + key, THUMBNAIL_EXTENSION);
+    }
+
+    // 키는 "디렉터리/파일명" 형태이므로 끝에서 두 번째 '/' 뒤에 thumb/를 붙인다 (S3, 로컬 저장소 URL 공통)
+    public static String thumbnailUrl(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        int fileStart = url.lastIndexOf('/');
+        int keyStart = fileStart <= 0 ? -1 : url.lastIndexOf('/', fileStart - 1);
+        if (keyStart < 0 || keyStart < url.indexOf("://") + 3) {
+            return null;
+        }
+        return replaceExtension(url.substring(0, keyStart + 1) + THUMBNAIL_PREFIX + url.substring(keyStart + 1), THUMBNAIL_EXTENSION);
+    }
+
+    private static String replaceExtension(String path, String extension) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        if (dot <= slash) {
+            return path + extension;
+        }
+        return path.substring(0, dot) + extension;
+    }
+}
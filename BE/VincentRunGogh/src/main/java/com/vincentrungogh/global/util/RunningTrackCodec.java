@@ -0,0 +1,63 @@
+package com.vincentrungogh.global.util;
+
+import com.vincentrungogh.domain.running.service.dto.common.RunningTrack;
+import com.vincentrungogh.domain.running.service.dto.request.RunningRequest;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 레디스에 저장하는 달리기 좌표 바이너리 포맷
+ * 좌표 하나당 20바이트 고정 길이 레코드 : lat(double) + lng(double) + 하루 중 초(int)
+ * 레코드를 이어 붙이기만 하면 되므로 APPEND 한 번으로 저장할 수 있다.
+ */
+public class RunningTrackCodec {
+
+    public static final int RECORD_SIZE = Double.BYTES * 2 + Integer.BYTES;
+
+    private RunningTrackCodec() {
+    }
+
+    public static byte[] encode(RunningRequest position) {
+        return encode(position.getLat(), position.getLng(),
+                TrackStatisticsCalculator.toSecondOfDay(position.getTime()));
+    }
+
+    public static byte[] encode(double lat, double lng, int second) {
+        return ByteBuffer.allocate(RECORD_SIZE)
+                .putDouble(lat)
+                .putDouble(lng)
+                .putInt(second)
+                .array();
+    }
+
+    // 여러 좌표를 레코드 하나로 이어 붙여서 인코딩
+    public static byte[] encode(RunningTrack track) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * track.getSize());
+        for (int i = 0; i < track.getSize(); i++) {
+            buffer.putDouble(track.getLats()[i])
+                    .putDouble(track.getLngs()[i])
+                    .putInt(track.getSeconds()[i]);
+        }
+        return buffer.array();
+    }
+
+    public static RunningTrack decode(byte[] bytes) {
+        if (bytes == null) {
+            return RunningTrack.createRunningTrack(new double[0], new double[0], new int[0], 0);
+        }
+
+        // 중간에 잘린 레코드는 버린다
+        int size = bytes.length / RECORD_SIZE;
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        int[] seconds = new int[size];
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        for (int i = 0; i < size; i++) {
+            lats[i] = buffer.getDouble();
+            lngs[i] = buffer.getDouble();
+            seconds[i] = buffer.getInt();
+        }
+        return RunningTrack.createRunningTrack(lats, lngs, seconds, size);
+    }
+}
@@ -0,0 +1,165 @@
+package com.vincentrungogh.global.util;
+
+import com.vincentrungogh.domain.route.service.dto.common.Geometry;
+
+/**
+ * 더글라스-포이커 알고리즘으로 좌표 목록의 단계별(LOD) 간소화 정보를 만든다.
+ * - 저장할 때 좌표마다 "몇 단계까지 남는지"(level)를 1바이트로 계산해 둔다.
+ * - 조회할 때는 level이 요청 단계 이상인 좌표만 골라서 돌려준다. (다시 계산하지 않음)
+ * 같은 분할 순서를 쓰기 때문에 큰 허용 오차의 결과는 항상 작은 허용 오차 결과의 부분 집합이다.
+ */
+public class TrackSimplifier {
+
+    // 단계별 허용 오차 (미터), 0단계는 원본
+    private static final double[] TOLERANCES = {0, 1, 3, 10, 30};
+    public static final int MAX_LEVEL = TOLERANCES.length - 1;
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    // 지도 줌 0에서 적도 기준 1픽셀의 미터
+    private static final double METERS_PER_PIXEL_AT_ZOOM_0 = 156_543.03;
+
+    private TrackSimplifier() {
+    }
+
+    // 좌표마다 남아있는 최대 단계 (양 끝 좌표는 항상 MAX_LEVEL)
+    public static byte[] computeLevels(double[] lats, double[] lngs, int size) {
+        byte[] levels = new byte[size];
+        if (size == 0) {
+            return levels;
+        }
+        levels[0] = (byte) MAX_LEVEL;
+        levels[size - 1] = (byte) MAX_LEVEL;
+
+        // {시작, 끝, 상위 구간의 유효 오차} 를 스택으로 분할
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        double[] parents = new double[size];
+        int top = 0;
+        starts[top] = 0;
+        ends[top] = size - 1;
+        parents[top] = Double.MAX_VALUE;
+        top++;
+
+        while (top > 0) {
+            top--;
+            int start = starts[top];
+            int end = ends[top];
+            double parent = parents[top];
+            if (end - start < 2) {
+                continue;
+            }
+
+            int farthest = -1;
+            double maxDistance = -1;
+            for (int i = start + 1; i < end; i++) {
+                double distance = segmentDistance(lats, lngs, i, start, end);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+
+            // 상위 구간이 먼저 잘려야 이 좌표도 남으므로 상위 오차보다 클 수 없다
+            double significance = Math.min(maxDistance, parent);
+            levels[farthest] = toLevel(significance);
+
+            starts[top] = start;
+            ends[top] = farthest;
+            parents[top] = significance;
+            top++;
+            starts[top] = farthest;
+            ends[top] = end;
+            parents[top] = significance;
+            top++;
+        }
+        return levels;
+    }
+
+    public static byte[] computeLevels(Geometry geometry) {
+        return computeLevels(geometry.getLats(), geometry.getLngs(), geometry.getSize());
+    }
+
+    // levels가 없으면(이전 문서) 바로 계산
+    public static Geometry simplify(Geometry geometry, byte[] levels, double tolerance) {
+        int level = levelOf(tolerance);
+        if (level == 0 || geometry.getSize() <= 2) {
+            return geometry;
+        }
+        if (levels == null || levels.length != geometry.getSize()) {
+            levels = computeLevels(geometry);
+        }
+
+        int count = 0;
+        for (byte each : levels) {
+            if (each >= level) {
+                count++;
+            }
+        }
+
+        double[] lats = new double[count];
+        double[] lngs = new double[count];
+        int index = 0;
+        for (int i = 0; i < geometry.getSize(); i++) {
+            if (levels[i] >= level) {
+                lats[index] = geometry.getLats()[i];
+                lngs[index] = geometry.getLngs()[i];
+                index++;
+            }
+        }
+        return Geometry.createGeometry(lats, lngs, count);
+    }
+
+    /**
+     * 요청한 허용 오차(미터)나 지도 줌 레벨을 허용 오차로 바꾼다. 둘 다 없으면 0(원본)
+     * 줌 레벨은 해당 위도에서 1픽셀에 해당하는 거리를 허용 오차로 쓴다.
+     */
+    public static double toleranceOf(Double tolerance, Integer zoom, Double lat) {
+        if (tolerance != null) {
+            return Math.max(tolerance, 0);
+        }
+        if (zoom != null) {
+            double cos = lat == null ? 1 : Math.cos(Math.toRadians(lat));
+            return METERS_PER_PIXEL_AT_ZOOM_0 * cos / Math.pow(2, zoom);
+        }
+        return 0;
+    }
+
+    // 허용 오차 이하인 가장 큰 단계
+    private static int levelOf(double tolerance) {
+        int level = 0;
+        for (int i = 1; i < TOLERANCES.length; i++) {
+            if (TOLERANCES[i] <= tolerance) {
+                level = i;
+            }
+        }
+        return level;
+    }
+
+    // 유효 오차보다 작은 허용 오차 단계까지 남는다
+    private static byte toLevel(double significance) {
+        int level = 0;
+        for (int i = 1; i < TOLERANCES.length; i++) {
+            if (significance > TOLERANCES[i]) {
+                level = i;
+            }
+        }
+        return (byte) level;
+    }
+
+    // 좌표 i와 선분(start, end) 사이의 거리 (미터, 구간 근처 평면 근사)
+    private static double segmentDistance(double[] lats, double[] lngs, int i, int start, int end) {
+        double cos = Math.cos(Math.toRadians(lats[start]));
+        double ax = lngs[start] * cos * METERS_PER_DEGREE;
+        double ay = lats[start] * METERS_PER_DEGREE;
+        double bx = lngs[end] * cos * METERS_PER_DEGREE - ax;
+        double by = lats[end] * METERS_PER_DEGREE - ay;
+        double px = lngs[i] * cos * METERS_PER_DEGREE - ax;
+        double py = lats[i] * METERS_PER_DEGREE - ay;
+
+        double lengthSquared = bx * bx + by * by;
+        double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, (px * bx + py * by) / lengthSquared));
+        double dx = px - t * bx;
+        double dy = py - t * by;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
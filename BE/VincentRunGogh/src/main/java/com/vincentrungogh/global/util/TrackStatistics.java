@@ -0,0 +1,23 @@
+package com.vincentrungogh.global.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TrackStatistics {
+
+    // 초 단위 (일시정지 구간 제외)
+    private final int time;
+    // 미터 단위 (일시정지 구간 제외)
+    private final int distance;
+    // km/h
+    private final int speed;
+
+    public static TrackStatistics createTrackStatistics(int time, int distance, int speed) {
+        return new TrackStatistics(time, distance, speed);
+    }
+}
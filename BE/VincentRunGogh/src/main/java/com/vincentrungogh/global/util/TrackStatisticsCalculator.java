@@ -0,0 +1,90 @@
+package com.vincentrungogh.global.util;
+
+import com.vincentrungogh.global.exception.CustomException;
+import com.vincentrungogh.global.exception.ErrorCode;
+
+/**
+ * 드로잉 좌표 목록으로 시간, 거리, 속력을 계산한다.
+ * 파이썬 서버(CalculateTime.py, RouteTotalDistance.py)와 동일한 규칙을 사용한다.
+ * - 다음 좌표와의 시간 차이가 11초 이상이면 일시정지로 간주하고 시간, 거리에서 제외
+ * - 시간 차이가 0초인 구간도 파이썬(calculate_time 이 0을 반환하면 일시정지로 처리)과 같이 거리에서 제외
+ * - 자정을 넘기면 24시간을 더해서 계산
+ * - 구간 거리는 하버사인 결과를 미터 단위 정수로 버림
+ */
+public class TrackStatisticsCalculator {
+
+    private static final int EARTH_RADIUS = 6371000;
+    private static final int PAUSE_SECONDS = 11;
+    private static final int SECONDS_OF_DAY = 60 * 60 * 24;
+
+    private TrackStatisticsCalculator() {
+    }
+
+    public static TrackStatistics calculate(double[] lats, double[] lngs, int[] seconds, int size) {
+        int totalTime = 0;
+        int totalDistance = 0;
+
+        for (int i = 1; i < size; i++) {
+            int eachTime = seconds[i] - seconds[i - 1];
+            if (eachTime < 0) {
+                eachTime += SECONDS_OF_DAY;
+            }
+
+            // 일시정지 구간(0초 포함)은 시간, 거리 모두 제외
+            if (eachTime == 0 || eachTime >= PAUSE_SECONDS) {
+                continue;
+            }
+
+            totalTime += eachTime;
+            totalDistance += haversine(lats[i - 1], lngs[i - 1], lats[i], lngs[i]);
+        }
+
+        if (totalTime == 0) {
+            return TrackStatistics.createTrackStatistics(0, totalDistance, 0);
+        }
+
+        // km/h
+        int speed = (int) ((totalDistance * 0.001) / (totalTime / 3600.0));
+        return TrackStatistics.createTrackStatistics(totalTime, totalDistance, speed);
+    }
+
+    // "HH:mm:ss" -> 하루 중 몇 번째 초인지 (시 0~23, 분/초 0~59 두 자리만 허용)
+    public static int toSecondOfDay(String time) {
+        if (time == null || time.length() != 8 || time.charAt(2) != ':' || time.charAt(5) != ':') {
+            throw new CustomException(ErrorCode.INVALID_TIME_FORMAT);
+        }
+        int hour = twoDigits(time, 0);
+        int minute = twoDigits(time, 3);
+        int second = twoDigits(time, 6);
+        if (hour >= 24 || minute >= 60 || second >= 60) {
+            throw new CustomException(ErrorCode.INVALID_TIME_FORMAT);
+        }
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    private static int twoDigits(String time, int index) {
+        char tens = time.charAt(index);
+        char ones = time.charAt(index + 1);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            throw new CustomException(ErrorCode.INVALID_TIME_FORMAT);
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    // 하루 중 몇 번째 초 -> "HH:mm:ss"
+    public static String toTimeString(int secondOfDay) {
+        return String.format("%02d:%02d:%02d", secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60);
+    }
+
+    // 미터 단위, 소수점 버림
+    public static int haversine(double lat1, double lng1, double lat2, double lng2) {
+        double radLat1 = Math.toRadians(lat1);
+        double radLat2 = Math.toRadians(lat2);
+        double sinLat = Math.sin((radLat2 - radLat1) / 2);
+        double sinLng = Math.sin((Math.toRadians(lng2) - Math.toRadians(lng1)) / 2);
+
+        double a = sinLat * sinLat + Math.cos(radLat1) * Math.cos(radLat2) * sinLng * sinLng;
+        double c = 2 * Math.asin(Math.sqrt(a));
+        return (int) (EARTH_RADIUS * c);
+    }
+}
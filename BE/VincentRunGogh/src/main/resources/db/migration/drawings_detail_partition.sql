@@ -0,0 +1,76 @@
+-- drawings_detail 월별 파티션 전환 (MySQL 8)
+-- created(TIMESTAMP) 기준 RANGE 파티션: 기간 조회는 해당 월 파티션만 읽고, 오래된 데이터는 파티션 단위로 보관/삭제한다.
+-- 이 프로젝트는 마이그레이션 도구를 쓰지 않는다.
+-- drawing.partition.enabled=true 이면 DrawingDetailPartitionManager가 서버 시작 시 파티션이 없는 테이블을 같은 방식으로 전환한다.
+-- 데이터가 많아 ALTER 동안 쓰기가 막히는 것이 부담되면 점검 시간에 이 스크립트를 직접 실행한 뒤 서버를 올린다. (월 목록은 실행 시점에 맞게 수정)
+-- 이후 월 파티션 추가와 보관 처리는 DrawingDetailPartitionManager(drawing.partition.*)가 담당한다.
+
+-- 1. 파티션 테이블은 외래 키를 가질 수 없으므로 drawing_id 외래 키 제거
+SET @fk := (SELECT CONSTRAINT_NAME
+            FROM information_schema.TABLE_CONSTRAINTS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'drawings_detail'
+              AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+            LIMIT 1);
+SET @sql := IF(@fk IS NULL, 'SELECT 1', CONCAT('ALTER TABLE drawings_detail DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2. 드로잉 단위 조회용 인덱스 (없을 때만)
+SET @idx := (SELECT COUNT(*)
+             FROM information_schema.STATISTICS
+             WHERE TABLE_SCHEMA = DATABASE()
+               AND TABLE_NAME = 'drawings_detail'
+               AND INDEX_NAME = 'idx_drawings_detail_drawing_created');
+SET @sql := IF(@idx > 0, 'SELECT 1',
+    'CREATE INDEX idx_drawings_detail_drawing_created ON drawings_detail (drawing_id, created)');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3. 파티션 키는 모든 유니크 키에 포함되어야 하므로 PK를 (id, created)로 변경
+ALTER TABLE drawings_detail
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created);
+
+-- 4. 월별 파티션
+ALTER TABLE drawings_detail
+PARTITION BY RANGE (UNIX_TIMESTAMP(created)) (
+    PARTITION p_old VALUES LESS THAN (UNIX_TIMESTAMP('2024-09-01 00:00:00')),
+    PARTITION p202409 VALUES LESS THAN (UNIX_TIMESTAMP('2024-10-01 00:00:00')),
+    PARTITION p202410 VALUES LESS THAN (UNIX_TIMESTAMP('2024-11-01 00:00:00')),
+    PARTITION p202411 VALUES LESS THAN (UNIX_TIMESTAMP('2024-12-01 00:00:00')),
+    PARTITION p202412 VALUES LESS THAN (UNIX_TIMESTAMP('2025-01-01 00:00:00')),
+    PARTITION p202501 VALUES LESS THAN (UNIX_TIMESTAMP('2025-02-01 00:00:00')),
+    PARTITION p202502 VALUES LESS THAN (UNIX_TIMESTAMP('2025-03-01 00:00:00')),
+    PARTITION p202503 VALUES LESS THAN (UNIX_TIMESTAMP('2025-04-01 00:00:00')),
+    PARTITION p202504 VALUES LESS THAN (UNIX_TIMESTAMP('2025-05-01 00:00:00')),
+    PARTITION p202505 VALUES LESS THAN (UNIX_TIMESTAMP('2025-06-01 00:00:00')),
+    PARTITION p202506 VALUES LESS THAN (UNIX_TIMESTAMP('2025-07-01 00:00:00')),
+    PARTITION p202507 VALUES LESS THAN (UNIX_TIMESTAMP('2025-08-01 00:00:00')),
+    PARTITION p202508 VALUES LESS THAN (UNIX_TIMESTAMP('2025-09-01 00:00:00')),
+    PARTITION p202509 VALUES LESS THAN (UNIX_TIMESTAMP('2025-10-01 00:00:00')),
+    PARTITION p202510 VALUES LESS THAN (UNIX_TIMESTAMP('2025-11-01 00:00:00')),
+    PARTITION p202511 VALUES LESS THAN (UNIX_TIMESTAMP('2025-12-01 00:00:00')),
+    PARTITION p202512 VALUES LESS THAN (UNIX_TIMESTAMP('2026-01-01 00:00:00')),
+    PARTITION p202601 VALUES LESS THAN (UNIX_TIMESTAMP('2026-02-01 00:00:00')),
+    PARTITION p202602 VALUES LESS THAN (UNIX_TIMESTAMP('2026-03-01 00:00:00')),
+    PARTITION p202603 VALUES LESS THAN (UNIX_TIMESTAMP('2026-04-01 00:00:00')),
+    PARTITION p202604 VALUES LESS THAN (UNIX_TIMESTAMP('2026-05-01 00:00:00')),
+    PARTITION p202605 VALUES LESS THAN (UNIX_TIMESTAMP('2026-06-01 00:00:00')),
+    PARTITION p202606 VALUES LESS THAN (UNIX_TIMESTAMP('2026-07-01 00:00:00')),
+    PARTITION p202607 VALUES LESS THAN (UNIX_TIMESTAMP('2026-08-01 00:00:00')),
+    PARTITION p202608 VALUES LESS THAN (UNIX_TIMESTAMP('2026-09-01 00:00:00')),
+    PARTITION p202609 VALUES LESS THAN (UNIX_TIMESTAMP('2026-10-01 00:00:00')),
+    PARTITION p202610 VALUES LESS THAN (UNIX_TIMESTAMP('2026-11-01 00:00:00')),
+    PARTITION p202611 VALUES LESS THAN (UNIX_TIMESTAMP('2026-12-01 00:00:00')),
+    PARTITION p202612 VALUES LESS THAN (UNIX_TIMESTAMP('2027-01-01 00:00:00')),
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+);
+
+-- 5. 보관 기간이 지난 파티션을 옮겨 둘 테이블과 EXCHANGE PARTITION 용 교환 테이블 (파티션 없음)
+CREATE TABLE IF NOT EXISTS drawings_detail_archive LIKE drawings_detail;
+ALTER TABLE drawings_detail_archive REMOVE PARTITIONING;
+CREATE TABLE IF NOT EXISTS drawings_detail_exchange LIKE drawings_detail;
+ALTER TABLE drawings_detail_exchange REMOVE PARTITIONING;
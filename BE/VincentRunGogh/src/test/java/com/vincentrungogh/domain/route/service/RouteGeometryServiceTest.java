@@ -0,0 +1,90 @@
+package com.vincentrungogh.domain.route.service;
+
+import com.vincentrungogh.domain.route.entity.MongoRoute;
+import com.vincentrungogh.domain.route.repository.MongoRouteRepository;
+import com.vincentrungogh.domain.route.service.dto.common.Position;
+import com.vincentrungogh.domain.route.service.dto.response.DataSaveRouteResponseDto;
+import com.vincentrungogh.global.exception.CustomException;
+import com.vincentrungogh.global.exception.ErrorCode;
+import com.vincentrungogh.global.service.MetricsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 기대값은 파이썬 서버(CalculateCenterAndDistance.py)로 같은 좌표를 계산한 결과
+class RouteGeometryServiceTest {
+
+    private MongoRouteRepository mongoRouteRepository;
+    private RouteGeometryService routeGeometryService;
+
+    @BeforeEach
+    void setUp() {
+        mongoRouteRepository = mock(MongoRouteRepository.class);
+        MetricsService metricsService = mock(MetricsService.class);
+        when(metricsService.record(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+        routeGeometryService = new RouteGeometryService(mongoRouteRepository, metricsService);
+    }
+
+    @Test
+    @DisplayName("중심은 좌표 평균, 거리는 하버사인 구간 거리의 합으로 파이썬과 같이 계산한다")
+    void saveRouteMatchesPython() {
+        when(mongoRouteRepository.save(any(MongoRoute.class))).thenAnswer(invocation -> {
+            MongoRoute route = invocation.getArgument(0);
+            ReflectionTestUtils.setField(route, "id", "route-1");
+            return route;
+        });
+        List<Position> positionList = List.of(
+                new Position(37.5665, 126.9780),
+                new Position(37.5670, 126.9786),
+                new Position(37.5676, 126.9792),
+                new Position(37.5690, 126.9810),
+                new Position(37.5703, 126.9826)
+        );
+
+        DataSaveRouteResponseDto response = routeGeometryService.saveRoute(positionList);
+
+        // 파이썬 : center (37.56808, 126.97988000000001), distance 584
+        assertEquals("route-1", response.getRouteId());
+        assertEquals(37.56808, response.getCenterLat());
+        assertEquals(126.97988000000001, response.getCenterLng());
+        assertEquals(584, response.getDistance());
+    }
+
+    @Test
+    @DisplayName("좌표가 없으면 저장하지 않고 예외")
+    void saveRouteEmpty() {
+        CustomException nullList = assertThrows(CustomException.class, () -> routeGeometryService.saveRoute((List<Position>) null));
+        CustomException emptyList = assertThrows(CustomException.class, () -> routeGeometryService.saveRoute(List.<Position>of()));
+
+        assertEquals(ErrorCode.FAILED_SAVE_ROOTING, nullList.getErrorCode());
+        assertEquals(ErrorCode.FAILED_SAVE_ROOTING, emptyList.getErrorCode());
+        verify(mongoRouteRepository, never()).save(any(MongoRoute.class));
+    }
+
+    @Test
+    @DisplayName("몽고 저장에 실패하면 루트 저장 실패 예외")
+    void saveRouteMongoFailure() {
+        when(mongoRouteRepository.save(any(MongoRoute.class)))
+                .thenThrow(new DataAccessResourceFailureException("mongo down"));
+        List<Position> positionList = List.of(new Position(37.5665, 126.9780), new Position(37.5670, 126.9786));
+
+        CustomException exception = assertThrows(CustomException.class, () -> routeGeometryService.saveRoute(positionList));
+
+        assertEquals(ErrorCode.FAILED_SAVE_ROOTING, exception.getErrorCode());
+    }
+}
@@ -0,0 +1,71 @@
+package com.vincentrungogh.global.util;
+
+import com.vincentrungogh.domain.route.service.dto.common.Geometry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeometryCodecTest {
+
+    @Test
+    @DisplayName("마이크로도(1e-6) 정밀도로 복원하고 좌표당 평균 4바이트 이하로 저장한다")
+    void encodeAndDecode() {
+        int size = 3600;
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        Random random = new Random(1);
+        double lat = 37.5665;
+        double lng = 126.9780;
+        for (int i = 0; i < size; i++) {
+            // 1초 간격 달리기 (약 5m 이내 이동)
+            lat += (random.nextDouble() - 0.5) * 1e-4;
+            lng += (random.nextDouble() - 0.5) * 1e-4;
+            lats[i] = lat;
+            lngs[i] = lng;
+        }
+
+        byte[] bytes = GeometryCodec.encode(lats, lngs, size);
+        Geometry geometry = GeometryCodec.decode(bytes);
+
+        assertEquals(size, geometry.getSize());
+        for (int i = 0; i < size; i++) {
+            assertEquals(lats[i], geometry.getLats()[i], 5e-7);
+            assertEquals(lngs[i], geometry.getLngs()[i], 5e-7);
+        }
+        assertTrue(bytes.length <= size * 4 + 8, "좌표당 바이트 : " + (double) bytes.length / size);
+    }
+
+    @Test
+    @DisplayName("음수 좌표와 큰 이동(날짜 변경선)도 복원한다")
+    void encodeAndDecodeLargeDelta() {
+        double[] lats = {-33.868800, 37.566500, -90.0, 90.0};
+        double[] lngs = {151.209300, -179.999999, 180.0, -180.0};
+
+        Geometry geometry = GeometryCodec.decode(GeometryCodec.encode(lats, lngs, lats.length));
+
+        for (int i = 0; i < lats.length; i++) {
+            assertEquals(lats[i], geometry.getLats()[i], 5e-7);
+            assertEquals(lngs[i], geometry.getLngs()[i], 5e-7);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 값은 빈 좌표, 손상되거나 버전이 다른 데이터는 예외")
+    void decodeInvalid() {
+        assertTrue(GeometryCodec.decode(null).isEmpty());
+        assertTrue(GeometryCodec.decode(GeometryCodec.encode(new double[0], new double[0], 0)).isEmpty());
+
+        byte[] bytes = GeometryCodec.encode(new double[]{37.5665, 37.5670}, new double[]{126.9780, 126.9786}, 2);
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decode(truncated));
+
+        bytes[0] = 2;
+        assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decode(bytes));
+    }
+}
@@ -0,0 +1,57 @@
+package com.vincentrungogh.global.util;
+
+import com.vincentrungogh.domain.running.service.dto.common.RunningTrack;
+import com.vincentrungogh.domain.running.service.dto.request.RunningRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunningTrackCodecTest {
+
+    @Test
+    @DisplayName("이어 붙인 레코드를 순서대로 복원한다")
+    void encodeAndDecode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(RunningTrackCodec.encode(RunningRequest.createRunningRequest(37.5665, 126.9780, "23:59:55")));
+        out.writeBytes(RunningTrackCodec.encode(RunningTrack.createRunningTrack(List.of(
+                RunningRequest.createRunningRequest(37.5670, 126.9786, "00:00:00"),
+                RunningRequest.createRunningRequest(-33.8688, 151.2093, "12:34:56")
+        ))));
+        byte[] bytes = out.toByteArray();
+
+        RunningTrack track = RunningTrackCodec.decode(bytes);
+
+        assertEquals(RunningTrackCodec.RECORD_SIZE * 3, bytes.length);
+        assertEquals(3, track.getSize());
+        assertArrayEquals(new double[]{37.5665, 37.5670, -33.8688}, track.getLats());
+        assertArrayEquals(new double[]{126.9780, 126.9786, 151.2093}, track.getLngs());
+        assertArrayEquals(new int[]{86395, 0, 45296}, track.getSeconds());
+        assertEquals("12:34:56", track.toRunningRequestList().get(2).getTime());
+    }
+
+    @Test
+    @DisplayName("중간에 잘린 레코드는 버린다")
+    void decodeTruncated() {
+        byte[] record = RunningTrackCodec.encode(37.5665, 126.9780, 10);
+        byte[] truncated = new byte[record.length + 7];
+        System.arraycopy(record, 0, truncated, 0, record.length);
+
+        RunningTrack track = RunningTrackCodec.decode(truncated);
+
+        assertEquals(1, track.getSize());
+        assertEquals(10, track.getSeconds()[0]);
+    }
+
+    @Test
+    @DisplayName("저장된 좌표가 없으면 빈 트랙")
+    void decodeNull() {
+        assertTrue(RunningTrackCodec.decode(null).isEmpty());
+        assertTrue(RunningTrackCodec.decode(new byte[0]).isEmpty());
+    }
+}
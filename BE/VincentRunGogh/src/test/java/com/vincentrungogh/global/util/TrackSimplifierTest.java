@@ -0,0 +1,113 @@
+package com.vincentrungogh.global.util;
+
+import com.vincentrungogh.domain.route.service.dto.common.Geometry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrackSimplifierTest {
+
+    @Test
+    @DisplayName("직선 위의 좌표는 양 끝만 남는다")
+    void simplifyStraightLine() {
+        double[] lats = new double[11];
+        double[] lngs = new double[11];
+        for (int i = 0; i <= 10; i++) {
+            lats[i] = 37.5 + i * 0.0001;
+            lngs[i] = 127.0;
+        }
+        Geometry geometry = Geometry.createGeometry(lats, lngs, lats.length);
+
+        byte[] levels = TrackSimplifier.computeLevels(geometry);
+        Geometry simplified = TrackSimplifier.simplify(geometry, levels, 1);
+
+        assertEquals(TrackSimplifier.MAX_LEVEL, levels[0]);
+        assertEquals(TrackSimplifier.MAX_LEVEL, levels[10]);
+        assertEquals(2, simplified.getSize());
+        assertEquals(lats[0], simplified.getLats()[0]);
+        assertEquals(lats[10], simplified.getLats()[1]);
+    }
+
+    @Test
+    @DisplayName("허용 오차보다 크게 벗어난 좌표만 남는다")
+    void simplifyKeepsCorner() {
+        // 약 111m 북쪽으로 갔다가 동쪽으로 꺾는 경로 (꺾인 점은 직선에서 수십 m 벗어남)
+        double[] lats = {37.5, 37.5005, 37.501, 37.501, 37.501};
+        double[] lngs = {127.0, 127.0, 127.0, 127.0006, 127.0012};
+        Geometry geometry = Geometry.createGeometry(lats, lngs, lats.length);
+        byte[] levels = TrackSimplifier.computeLevels(geometry);
+
+        Geometry simplified = TrackSimplifier.simplify(geometry, levels, 10);
+
+        assertEquals(3, simplified.getSize());
+        assertEquals(37.501, simplified.getLats()[1]);
+        assertEquals(127.0, simplified.getLngs()[1]);
+    }
+
+    @Test
+    @DisplayName("큰 허용 오차의 결과는 작은 허용 오차 결과의 부분 집합이고, 저장된 단계 없이도 같은 결과를 낸다")
+    void simplifyNested() {
+        int size = 2000;
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        Random random = new Random(7);
+        double lat = 37.5665;
+        double lng = 126.9780;
+        for (int i = 0; i < size; i++) {
+            lat += (random.nextDouble() - 0.3) * 5e-5;
+            lng += (random.nextDouble() - 0.5) * 5e-5;
+            lats[i] = lat;
+            lngs[i] = lng;
+        }
+        Geometry geometry = Geometry.createGeometry(lats, lngs, size);
+        byte[] levels = TrackSimplifier.computeLevels(geometry);
+
+        Set<Double> previous = null;
+        int previousSize = size + 1;
+        for (double tolerance : new double[]{1, 3, 10, 30}) {
+            Geometry simplified = TrackSimplifier.simplify(geometry, levels, tolerance);
+            Geometry recomputed = TrackSimplifier.simplify(geometry, null, tolerance);
+            assertEquals(simplified.getSize(), recomputed.getSize());
+            assertTrue(simplified.getSize() < previousSize);
+            assertEquals(lats[0], simplified.getLats()[0]);
+            assertEquals(lats[size - 1], simplified.getLats()[simplified.getSize() - 1]);
+
+            Set<Double> kept = new HashSet<>();
+            for (int i = 0; i < simplified.getSize(); i++) {
+                kept.add(simplified.getLats()[i] * 1000 + simplified.getLngs()[i]);
+            }
+            if (previous != null) {
+                assertTrue(previous.containsAll(kept));
+            }
+            previous = kept;
+            previousSize = simplified.getSize();
+        }
+    }
+
+    @Test
+    @DisplayName("허용 오차가 1m 미만이면 원본을 그대로 돌려준다")
+    void simplifyZeroTolerance() {
+        Geometry geometry = Geometry.createGeometry(new double[]{37.5, 37.6, 37.5}, new double[]{127.0, 127.1, 127.2}, 3);
+
+        assertSame(geometry, TrackSimplifier.simplify(geometry, null, 0));
+        assertSame(geometry, TrackSimplifier.simplify(geometry, null, 0.5));
+    }
+
+    @Test
+    @DisplayName("줌 레벨은 해당 위도의 1픽셀 거리로 바꾼다")
+    void toleranceOfZoom() {
+        assertEquals(5, TrackSimplifier.toleranceOf(5.0, 10, 37.5));
+        assertEquals(0, TrackSimplifier.toleranceOf(-1.0, null, null));
+        assertEquals(0, TrackSimplifier.toleranceOf(null, null, null));
+        // 적도 줌 15 : 156543.03 / 2^15 = 약 4.78m
+        assertEquals(4.777, TrackSimplifier.toleranceOf(null, 15, 0.0), 0.001);
+        assertEquals(4.777 * Math.cos(Math.toRadians(60)), TrackSimplifier.toleranceOf(null, 15, 60.0), 0.001);
+    }
+}
@@ -0,0 +1,82 @@
+package com.vincentrungogh.global.util;
+
+import com.vincentrungogh.global.exception.CustomException;
+import com.vincentrungogh.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 기대값은 파이썬 서버(DrawingDetailSaveAPI.py, CalculateTime.py, RouteTotalDistance.haversine)로 같은 좌표를 계산한 결과
+class TrackStatisticsCalculatorTest {
+
+    @Test
+    @DisplayName("일시정지(11초 이상), 0초 구간, 자정 넘김을 파이썬과 같이 계산한다")
+    void calculateMatchesPython() {
+        double[] lats = {37.5665, 37.5670, 37.5670, 37.5676, 37.5690, 37.5694, 37.5699, 37.5703};
+        double[] lngs = {126.9780, 126.9786, 126.9786, 126.9792, 126.9810, 126.9815, 126.9821, 126.9826};
+        int[] seconds = {
+                TrackStatisticsCalculator.toSecondOfDay("23:59:50"),
+                TrackStatisticsCalculator.toSecondOfDay("23:59:55"),
+                TrackStatisticsCalculator.toSecondOfDay("23:59:55"),
+                TrackStatisticsCalculator.toSecondOfDay("00:00:02"),
+                TrackStatisticsCalculator.toSecondOfDay("00:00:40"),
+                TrackStatisticsCalculator.toSecondOfDay("00:00:45"),
+                TrackStatisticsCalculator.toSecondOfDay("00:00:45"),
+                TrackStatisticsCalculator.toSecondOfDay("00:00:50")
+        };
+
+        TrackStatistics statistics = TrackStatisticsCalculator.calculate(lats, lngs, seconds, lats.length);
+
+        // 파이썬 : time 22, distance 285, speed 46.636...
+        assertEquals(22, statistics.getTime());
+        assertEquals(285, statistics.getDistance());
+        assertEquals(46, statistics.getSpeed());
+    }
+
+    @Test
+    @DisplayName("모든 구간이 일시정지면 시간, 속력은 0")
+    void calculateAllPaused() {
+        double[] lats = {37.5665, 37.5670, 37.5676};
+        double[] lngs = {126.9780, 126.9786, 126.9792};
+        int[] seconds = {0, 0, 30};
+
+        TrackStatistics statistics = TrackStatisticsCalculator.calculate(lats, lngs, seconds, lats.length);
+
+        assertEquals(0, statistics.getTime());
+        assertEquals(0, statistics.getDistance());
+        assertEquals(0, statistics.getSpeed());
+    }
+
+    @Test
+    @DisplayName("하버사인 구간 거리는 미터 단위 정수로 버린다")
+    void haversineMatchesPython() {
+        // 파이썬 : 76, 85, 222
+        assertEquals(76, TrackStatisticsCalculator.haversine(37.5665, 126.9780, 37.5670, 126.9786));
+        assertEquals(85, TrackStatisticsCalculator.haversine(37.5670, 126.9786, 37.5676, 126.9792));
+        assertEquals(222, TrackStatisticsCalculator.haversine(37.5676, 126.9792, 37.5690, 126.9810));
+        assertEquals(0, TrackStatisticsCalculator.haversine(37.5670, 126.9786, 37.5670, 126.9786));
+    }
+
+    @Test
+    @DisplayName("HH:mm:ss 와 하루 중 초를 서로 변환한다")
+    void convertTime() {
+        assertEquals(0, TrackStatisticsCalculator.toSecondOfDay("00:00:00"));
+        assertEquals(86399, TrackStatisticsCalculator.toSecondOfDay("23:59:59"));
+        assertEquals(3723, TrackStatisticsCalculator.toSecondOfDay("01:02:03"));
+        assertEquals("01:02:03", TrackStatisticsCalculator.toTimeString(3723));
+    }
+
+    @Test
+    @DisplayName("HH:mm:ss 가 아니거나 범위를 벗어난 시간은 예외")
+    void convertInvalidTime() {
+        for (String time : new String[]{"01:0a:03", "25:00:00", "24:00:00", "23:60:00", "23:59:60", "25:99:99",
+                "10", "1:2:3", "1:2:3:4", "01:02:03:04", "01-02-03", ""}) {
+            CustomException exception = assertThrows(CustomException.class, () -> TrackStatisticsCalculator.toSecondOfDay(time));
+            assertEquals(ErrorCode.INVALID_TIME_FORMAT, exception.getErrorCode());
+        }
+        CustomException exception = assertThrows(CustomException.class, () -> TrackStatisticsCalculator.toSecondOfDay(null));
+        assertEquals(ErrorCode.INVALID_TIME_FORMAT, exception.getErrorCode());
+    }
+}